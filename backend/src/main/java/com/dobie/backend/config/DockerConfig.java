@@ -0,0 +1,63 @@
+package com.dobie.backend.config;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.core.DefaultDockerClientConfig;
+import com.github.dockerjava.core.DockerClientConfig;
+import com.github.dockerjava.core.DockerClientImpl;
+import com.github.dockerjava.httpclient5.ApacheDockerHttpClient;
+import com.github.dockerjava.transport.DockerHttpClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+// docker CLI 대신 Docker Engine API를 unix socket으로 직접 호출 (연결은 pool에서 재사용)
+@Configuration
+public class DockerConfig {
+
+    @Value("${dobie.docker.host:unix:///var/run/docker.sock}")
+    private String dockerHost;
+
+    @Value("${dobie.docker.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${dobie.docker.response-timeout-seconds:60}")
+    private long responseTimeoutSeconds;
+
+    // 일반 요청용 : 응답이 response-timeout 동안 오지 않으면 실패
+    @Primary
+    @Bean(destroyMethod = "close")
+    public DockerClient dockerClient() {
+        return createClient(dockerHost, maxConnections, Duration.ofSeconds(responseTimeoutSeconds));
+    }
+
+    /*
+     * docker events 처럼 계속 열려 있는 스트림용
+     * response timeout은 socket read timeout으로 적용되므로, 이벤트가 없는 동안 스트림이 끊기지 않도록 설정하지 않는다
+     */
+    @Bean(destroyMethod = "close")
+    public DockerClient dockerEventsClient() {
+        return createClient(dockerHost, 2, null);
+    }
+
+    // responseTimeout이 null이면 응답 대기 시간 제한 없음
+    static DockerClient createClient(String host, int maxConnections, Duration responseTimeout) {
+        DockerClientConfig config = DefaultDockerClientConfig.createDefaultConfigBuilder()
+                .withDockerHost(host)
+                .build();
+
+        ApacheDockerHttpClient.Builder builder = new ApacheDockerHttpClient.Builder()
+                .dockerHost(config.getDockerHost())
+                .sslConfig(config.getSSLConfig())
+                .maxConnections(maxConnections)
+                .connectionTimeout(Duration.ofSeconds(30));
+        if (responseTimeout != null) {
+            builder.responseTimeout(responseTimeout);
+        }
+        DockerHttpClient httpClient = builder.build();
+
+        return DockerClientImpl.getInstance(config, httpClient);
+    }
+}
@@ -0,0 +1,8 @@
+package com.dobie.backend.domain.docker.containerstatus.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface ContainerStatusStreamService {
+
+    SseEmitter subscribe(String projectId);
+}
@@ -0,0 +1,222 @@
+package com.dobie.backend.domain.docker.containerstatus.service;
+
+import com.dobie.backend.domain.docker.dockerfile.service.DockerfileService;
+import com.dobie.backend.domain.project.entity.Project;
+import com.dobie.backend.domain.project.repository.ProjectRepository;
+import com.dobie.backend.exception.exception.project.ProjectNotFoundException;
+import com.dobie.backend.util.docker.ContainerState;
+import com.dobie.backend.util.docker.ContainerStateCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * 프로젝트별 컨테이너 상태를 SSE로 전달 (GET /api/containercheck/stream)
+ * 구독하면 현재 상태를 바로 보내고, 이후 ContainerStateCache가 알려주는 변경(docker events) 중 해당 프로젝트 컨테이너가 바뀌었을 때만 보낸다
+ * 보내는 내용은 /api/containercheck/proceeding 응답과 같은 형식이고, 그 구독자에게 직전에 보낸 내용과 같으면 보내지 않는다
+ * 상태 계산은 프로젝트별로 최대 1건만 대기시킨다 (목록을 다시 읽을 때처럼 컨테이너 변경이 한꺼번에 와도 한 번만 계산)
+ * 상태 계산은 publisher 스레드, 전송은 구독자마다 sender executor에서 따로 처리한다
+ *   - 느린 구독자는 자기 전송만 늦어지고 다른 구독자/프로젝트나 events 스트림 처리를 막지 않는다
+ *   - 아직 보내지 못한 상태가 있으면 최신 상태로 바꿔치기하므로 구독자별로 쌓이는 것은 최대 1건
+ */
+@Service
+@Log4j2
+public class ContainerStatusStreamServiceImpl implements ContainerStatusStreamService {
+
+    private final DockerfileService dockerfileService;
+    private final ProjectRepository projectRepository;
+    private final ContainerStateCache containerStateCache;
+    private final long streamTimeout;
+
+    // projectId -> 구독자
+    private final Map<String, ProjectStream> streams = new ConcurrentHashMap<>();
+
+    private final ExecutorService publisher = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "container-status-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicInteger senderCount = new AtomicInteger();
+    private final ExecutorService sender = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "container-status-sender-" + senderCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ContainerStatusStreamServiceImpl(DockerfileService dockerfileService,
+                                            ProjectRepository projectRepository,
+                                            ContainerStateCache containerStateCache,
+                                            @Value("${dobie.docker.events.stream-timeout-minutes:30}") long streamTimeoutMinutes) {
+        this.dockerfileService = dockerfileService;
+        this.projectRepository = projectRepository;
+        this.containerStateCache = containerStateCache;
+        this.streamTimeout = TimeUnit.MINUTES.toMillis(streamTimeoutMinutes);
+    }
+
+    @PostConstruct
+    public void register() {
+        containerStateCache.addListener(this::onChange);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        publisher.shutdownNow();
+        sender.shutdownNow();
+    }
+
+    @Override
+    public SseEmitter subscribe(String projectId) {
+        if (!projectRepository.existsProject(projectId)) {
+            throw new ProjectNotFoundException("구독할 프로젝트가 없습니다 : " + projectId);
+        }
+
+        SseEmitter emitter = new SseEmitter(streamTimeout);
+        Subscriber subscriber = new Subscriber(projectId, emitter);
+        // 마지막 구독자가 빠지면서 stream이 제거되는 것과 겹치지 않도록 map 안에서 추가 (전송은 map 밖에서)
+        streams.compute(projectId, (id, stream) -> {
+            ProjectStream current = stream != null ? stream : new ProjectStream();
+            current.add(subscriber);
+            return current;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        // 첫 상태도 publisher 스레드에서 계산해서, 그 사이 발생한 변경보다 오래된 상태가 나중에 전달되지 않도록 한다
+        publisher.execute(() -> publish(projectId, List.of(subscriber)));
+        return emitter;
+    }
+
+    private void onChange(String containerName, ContainerState state) {
+        Project project = projectRepository.searchProjectByServiceId(containerName);
+        if (project == null || !streams.containsKey(project.getProjectId())) {
+            return;
+        }
+        String projectId = project.getProjectId();
+        ProjectStream stream = streams.get(projectId);
+        // 이미 대기 중인 계산이 있으면 그 계산이 이 변경도 반영한다
+        if (stream == null || !stream.dirty.compareAndSet(false, true)) {
+            return;
+        }
+        publisher.execute(() -> {
+            // 계산 도중 들어온 변경은 다시 대기시킬 수 있도록 계산 전에 해제
+            stream.dirty.set(false);
+            List<Subscriber> subscribers = stream.subscribers();
+            if (!subscribers.isEmpty()) {
+                publish(projectId, subscribers);
+            }
+        });
+    }
+
+    // publisher 스레드에서만 호출
+    private void publish(String projectId, List<Subscriber> subscribers) {
+        try {
+            Map<String, String> status = dockerfileService.dockerContainerLister(projectId);
+            subscribers.forEach(subscriber -> subscriber.offer(status));
+        } catch (RuntimeException e) {
+            log.warn("컨테이너 상태 조회 실패 : {} ({})", projectId, e.getMessage());
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscriber.closed = true;
+        streams.computeIfPresent(subscriber.projectId, (id, stream) -> stream.remove(subscriber) ? null : stream);
+    }
+
+    private static class ProjectStream {
+
+        private final List<Subscriber> subscribers = new ArrayList<>();
+        // publisher에 상태 계산이 올라가 있고 아직 시작하지 않음
+        private final AtomicBoolean dirty = new AtomicBoolean();
+
+        synchronized void add(Subscriber subscriber) {
+            subscribers.add(subscriber);
+        }
+
+        // 구독자가 더 없으면 true
+        synchronized boolean remove(Subscriber subscriber) {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty();
+        }
+
+        synchronized List<Subscriber> subscribers() {
+            return List.copyOf(subscribers);
+        }
+    }
+
+    private class Subscriber {
+
+        private final String projectId;
+        private final SseEmitter emitter;
+        // 아직 보내지 않은 최신 상태
+        private final AtomicReference<Map<String, String>> pending = new AtomicReference<>();
+        // drain이 sender에 올라가 있거나 실행 중
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        // 이 구독자에게 마지막으로 보낸 상태 (drain 중인 스레드 하나만 사용)
+        private Map<String, String> lastSent;
+        private volatile boolean closed;
+
+        private Subscriber(String projectId, SseEmitter emitter) {
+            this.projectId = projectId;
+            this.emitter = emitter;
+        }
+
+        private void offer(Map<String, String> status) {
+            pending.set(status);
+            if (closed || !scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                close();
+            }
+        }
+
+        private void drain() {
+            while (!closed) {
+                Map<String, String> status = pending.getAndSet(null);
+                if (status == null) {
+                    scheduled.set(false);
+                    // 그 사이 들어온 상태는 offer에서 drain을 올리지 못했으므로 여기서 이어서 처리
+                    if (pending.get() == null || !scheduled.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                if (status.equals(lastSent)) {
+                    continue;
+                }
+                try {
+                    emitter.send(SseEmitter.event().name("status").data(status));
+                    lastSent = new HashMap<>(status);
+                } catch (IOException | IllegalStateException e) {
+                    close();
+                    return;
+                }
+            }
+        }
+
+        private void close() {
+            unsubscribe(this);
+            emitter.complete();
+        }
+    }
+}
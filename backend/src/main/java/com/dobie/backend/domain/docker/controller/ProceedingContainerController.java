@@ -1,15 +1,19 @@
 package com.dobie.backend.domain.docker.controller;
 
+import com.dobie.backend.domain.docker.containerstatus.service.ContainerStatusStreamService;
 import com.dobie.backend.domain.docker.dockerfile.service.DockerfileServiceImpl;
 import com.dobie.backend.exception.format.code.ApiResponse;
 import com.dobie.backend.exception.format.response.ResponseCode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
+import java.util.List;
 
 @Tag(name = "Container Check 컨트롤러", description = "Container Check Controller API")
 @RestController
@@ -18,6 +22,7 @@ import java.util.HashMap;
 public class ProceedingContainerController {
     private final ApiResponse response;
     private final DockerfileServiceImpl dockerfileService;
+    private final ContainerStatusStreamService containerStatusStreamService;
 
     @Operation(summary = "프로젝트 별 실행중인 컨테이너 확인", description = "프로젝트 별 실행중인 컨테이너 확인")
     @GetMapping("/proceeding")
@@ -27,6 +32,20 @@ public class ProceedingContainerController {
         return response.success(ResponseCode.CONTAINER_STATUS_SUCCESS,containers);
     }
 
+    @Operation(summary = "여러 프로젝트의 실행중인 컨테이너 일괄 확인", description = "projectIds를 생략하면 전체 프로젝트, 컨테이너 상태는 한 번만 조회")
+    @GetMapping("/proceeding/all")
+    public ResponseEntity<?> checkProceedingContainers(@RequestParam(name="projectIds", required = false) List<String> projectIds) {
+        HashMap<String,HashMap<String,String>> containers = dockerfileService.dockerContainerListerAll(projectIds);
+
+        return response.success(ResponseCode.CONTAINER_STATUS_BULK_SUCCESS,containers);
+    }
+
+    @Operation(summary = "프로젝트 별 컨테이너 상태 구독", description = "proceeding과 같은 형식의 상태를 SSE status 이벤트로 전달 (구독 시 1번, 이후 변경될 때마다)")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamContainerStatus(@RequestParam(name="projectId") String projectId) {
+        return containerStatusStreamService.subscribe(projectId);
+    }
+
     @Operation(summary = "백엔드 실행 전 DB컨테이너 실행 상태 확인", description = "백엔드 실행 전 DB컨테이너 실행 상태 확인")
     @GetMapping("/checkDB")
     public ResponseEntity<?> checkDBContainerStatus(@RequestParam(name="projectId") String projectId) {
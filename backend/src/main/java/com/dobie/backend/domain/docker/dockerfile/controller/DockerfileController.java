@@ -2,6 +2,8 @@ package com.dobie.backend.domain.docker.dockerfile.controller;
 
 import com.dobie.backend.domain.docker.dockerfile.service.DockerfileService;
 import com.dobie.backend.domain.docker.readjson.service.ReadJsonService;
+import com.dobie.backend.util.docker.ContainerLogPage;
+import com.dobie.backend.util.docker.ContainerLogQuery;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -71,11 +73,25 @@ public class DockerfileController {
         return new ResponseEntity<>(content,HttpStatus.OK);
     }
 
-    @Operation(summary = "컨테이너 로그 내용 조회", description = "컨테이너 로그를 조회합니다.")
+    @Operation(summary = "컨테이너 로그 내용 조회", description = "컨테이너 로그 마지막 tail줄을 조회합니다. (생략하면 기본값)")
     @GetMapping("/docker-container-logs")
-    public ResponseEntity<?> readContainerLogContent(@RequestParam(name = "mountId") String mountId){
+    public ResponseEntity<?> readContainerLogContent(@RequestParam(name = "mountId") String mountId,
+                                                     @RequestParam(name = "tail", required = false) Integer tail){
         //mountId는 serviceId또는 databaseId를 의미합니다.
-        String content = dockerfileService.readContainerLog(mountId);
+        String content = dockerfileService.readContainerLog(mountId, tail);
         return new ResponseEntity<>(content,HttpStatus.OK);
     }
+
+    @Operation(summary = "컨테이너 로그 구간 조회", description = "tail, since/until(epoch 초), cursor(이전 응답의 nextCursor)로 필요한 구간만 조회합니다.")
+    @GetMapping("/docker-container-logs/page")
+    public ResponseEntity<?> readContainerLogPage(@RequestParam(name = "mountId") String mountId,
+                                                  @RequestParam(name = "tail", required = false) Integer tail,
+                                                  @RequestParam(name = "since", required = false) Long since,
+                                                  @RequestParam(name = "until", required = false) Long until,
+                                                  @RequestParam(name = "cursor", required = false) String cursor,
+                                                  @RequestParam(name = "limit", required = false) Integer limit){
+        ContainerLogPage page = dockerfileService.readContainerLogPage(mountId,
+                new ContainerLogQuery(tail, since, until, cursor, limit));
+        return new ResponseEntity<>(page,HttpStatus.OK);
+    }
 }
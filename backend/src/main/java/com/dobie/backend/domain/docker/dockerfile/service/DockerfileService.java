@@ -1,6 +1,10 @@
 package com.dobie.backend.domain.docker.dockerfile.service;
 
+import com.dobie.backend.util.docker.ContainerLogPage;
+import com.dobie.backend.util.docker.ContainerLogQuery;
+
 import java.util.HashMap;
+import java.util.List;
 
 public interface DockerfileService {
 
@@ -28,6 +32,9 @@ public interface DockerfileService {
     /* 실행중인 컨테이너 확인 메소드 */
     HashMap<String,String> dockerContainerLister(String projectId);
 
+    /* 여러 프로젝트의 실행중인 컨테이너 확인 메소드 (projectIds가 없으면 전체 프로젝트) */
+    HashMap<String,HashMap<String,String>> dockerContainerListerAll(List<String> projectIds);
+
     /* 실행중인 컨테이너 확인 메소드(프레임워크도 확인함) */
     String checkDBContainer(String projectId);
 
@@ -44,5 +51,9 @@ public interface DockerfileService {
     //도커 컴포즈 파일 읽어옴
     String readEnvironmentDockerComposeFile(String filepath);
 
-    String readContainerLog(String mountId);
+    // 마지막 tail줄 (null이면 기본값)
+    String readContainerLog(String mountId, Integer tail);
+
+    // tail, since/until, cursor 구간 조회
+    ContainerLogPage readContainerLogPage(String mountId, ContainerLogQuery query);
 }
@@ -1,26 +1,26 @@
 package com.dobie.backend.domain.docker.dockerfile.service;
 
 import com.dobie.backend.domain.docker.readjson.service.ReadJsonService;
+import com.dobie.backend.domain.project.entity.Backend;
+import com.dobie.backend.domain.project.entity.Database;
+import com.dobie.backend.domain.project.entity.Project;
 import com.dobie.backend.exception.exception.build.DjangoBuildFailedException;
 import com.dobie.backend.exception.exception.build.FastApiBuildFailedException;
 import com.dobie.backend.exception.exception.docker.DockerPsErrorException;
 import com.dobie.backend.exception.exception.Environment.*;
 import com.dobie.backend.exception.exception.build.BackendBuildFailedException;
 import com.dobie.backend.exception.exception.build.FrontendBuildFailedException;
-import com.dobie.backend.exception.exception.docker.DockerPsLinePartsErrorException;
 import com.dobie.backend.exception.exception.file.SaveFileFailedException;
 import com.dobie.backend.util.command.CommandService;
+import com.dobie.backend.util.docker.ContainerLogPage;
+import com.dobie.backend.util.docker.ContainerLogQuery;
+import com.dobie.backend.util.docker.DockerEngineService;
 import com.dobie.backend.util.file.FileManager;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.apache.commons.exec.CommandLine;
-import org.apache.commons.exec.DefaultExecutor;
-import org.apache.commons.exec.PumpStreamHandler;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -28,6 +28,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -37,6 +38,7 @@ public class DockerfileServiceImpl implements DockerfileService {
 
     private final ReadJsonService readJsonService;
     private final CommandService commandService;
+    private final DockerEngineService dockerEngineService;
     FileManager fileManager = new FileManager();
 
     @Override
@@ -315,28 +317,8 @@ public class DockerfileServiceImpl implements DockerfileService {
     public HashMap<String,String> dockerContainerLister(String projectId) {
         try{
             ArrayList<String> analyzeList = AnalyzeProjectContainer(projectId);
-            String dockerOutput = readProceedingDockerContainer();
-            HashMap<String,String> containers = parseDockerPsOutput(dockerOutput);
-            HashMap<String,String> analyzeContainer = new HashMap<>();
-            boolean allRunning = false;
-            for(int i=0; i<analyzeList.size(); i++){
-                String currentContainerName = analyzeList.get(i);
-                String currentStatus = containers.get(currentContainerName);
-                if(currentStatus==null){
-                    analyzeContainer.put(currentContainerName,"ERROR :/");
-                }else {
-                    analyzeContainer.put(currentContainerName, currentStatus);
-                   if(currentStatus.equals("Running :)")&&!allRunning){
-                       allRunning = true;
-                   }
-                }
-            }
-            if(allRunning==true){
-                analyzeContainer.put("allRunning","Run");
-            }else{
-                analyzeContainer.put("allRunning","Stop");
-            }
-            return analyzeContainer;
+            HashMap<String,String> containers = readContainerStatus();
+            return analyzeContainerStatus(analyzeList, containers);
 
         } catch (Exception e) {
             System.out.println("docker ps 명령어 실행 중 에러 발생: " + e.getMessage());
@@ -345,13 +327,38 @@ public class DockerfileServiceImpl implements DockerfileService {
         }
     }
 
+    // 컨테이너 상태는 한 번만 조회해서 모든 프로젝트에 사용, 등록되지 않은 projectId는 결과에서 제외
+    @Override
+    public HashMap<String,HashMap<String,String>> dockerContainerListerAll(List<String> projectIds) {
+        try {
+            Map<String, Project> projects = readJsonService.getProjectView().projects();
+            HashMap<String,String> containers = readContainerStatus();
+
+            List<String> targets = (projectIds == null || projectIds.isEmpty())
+                    ? new ArrayList<>(projects.keySet()) : projectIds;
+            HashMap<String,HashMap<String,String>> result = new HashMap<>();
+            for (String projectId : targets) {
+                Project project = projects.get(projectId);
+                if (project == null) {
+                    log.warn("상태 조회 대상에 등록되지 않은 프로젝트가 있습니다 : {}", projectId);
+                    continue;
+                }
+                result.put(projectId, analyzeContainerStatus(AnalyzeProjectContainer(project), containers));
+            }
+            return result;
+
+        } catch (Exception e) {
+            log.error("컨테이너 상태 일괄 조회 중 에러 발생 : {}", e.getMessage(), e);
+            throw new DockerPsErrorException();
+        }
+    }
+
     @Override
     public String checkDBContainer(String projectId) {
         try {
             ArrayList<String> analyzeList = AnalyzeProjectContainer(projectId);
             HashMap<String,String> frameworkMap = AnalyzeProjectContainerFramework(projectId); //key : 컨테이너 서비스id, value : 프레임 워크
-            String dockerOutput = readProceedingDockerContainer();
-            HashMap<String,String> containerStatus = parseDockerPsOutput(dockerOutput); //key : 컨테이너 서비스id, value : 실행 상태
+            HashMap<String,String> containerStatus = readContainerStatus(); //key : 컨테이너 서비스id, value : 실행 상태
 
             boolean mysqlOn = false;
             boolean redisOn = false;
@@ -403,8 +410,7 @@ public class DockerfileServiceImpl implements DockerfileService {
         try {
             ArrayList<String> analyzeList = AnalyzeProjectContainer(projectId);
             HashMap<String,String> frameworkMap = AnalyzeProjectContainerFramework(projectId); //key : 컨테이너 서비스id, value : 프레임 워크
-            String dockerOutput = readProceedingDockerContainer();
-            HashMap<String,String> containerStatus = parseDockerPsOutput(dockerOutput); //key : 컨테이너 서비스id, value : 실행 상태
+            HashMap<String,String> containerStatus = readContainerStatus(); //key : 컨테이너 서비스id, value : 실행 상태
 
             boolean gradleOn = false;
             boolean mavenOn = false;
@@ -456,12 +462,9 @@ public class DockerfileServiceImpl implements DockerfileService {
     public String makeDockerfilePathContent(String projectId, String serviceId, String type) {
         if(type.equals("Backend")) {
             try {
-            //project.json을 불러오는 메소드 -> readJsonService.JsonToMap()
-            //data/projectJson을 map으로 변환해서 불러왔음
-            Map<String, Object> projectJsonMap = ReadJsonFromDocker();
-            String projectName = (String) readJsonService.JsonGetTwo(projectJsonMap, projectId, "projectName");
-            String path = (String) readJsonService.JsonGetFour(projectJsonMap, projectId, "backendMap", serviceId, "path");
-            String filepath = "/" + projectName + path;
+            Project project = findProject(projectId);
+            String path = project.getBackendMap().get(serviceId).getPath();
+            String filepath = "/" + project.getProjectName() + path;
                 return filepath;
             }catch (Exception e) {
                 System.out.println("백엔드 도커 파일 경로 생성 오류: " + e.getMessage());
@@ -469,12 +472,9 @@ public class DockerfileServiceImpl implements DockerfileService {
             }
         }else if(type.equals("Frontend")){
             try {
-            //project.json을 불러오는 메소드 -> readJsonService.JsonToMap()
-            //data/projectJson을 map으로 변환해서 불러왔음
-            Map<String, Object> projectJsonMap = ReadJsonFromDocker();
-            String projectName = (String) readJsonService.JsonGetTwo(projectJsonMap, projectId, "projectName");
-            String path = (String) readJsonService.JsonGetThree(projectJsonMap, projectId, "frontend","path");
-            String filepath = "/" + projectName + path;
+            Project project = findProject(projectId);
+            String path = project.getFrontend().getPath();
+            String filepath = "/" + project.getProjectName() + path;
                 return filepath;
             }catch (Exception e) {
                 System.out.println("프론트엔드 도커 파일 경로 생성 오류: " + e.getMessage());
@@ -488,11 +488,8 @@ public class DockerfileServiceImpl implements DockerfileService {
     @Override
     public String makeDockerComposefilePathContent(String projectId) {
         try {
-            //project.json을 불러오는 메소드 -> readJsonService.JsonToMap()
-            //data/projectJson을 map으로 변환해서 불러왔음
-            Map<String, Object> projectJsonMap = ReadJsonFromDocker();
-            String projectName = (String) readJsonService.JsonGetTwo(projectJsonMap, projectId, "projectName");
-            String filepath = "/" + projectName;
+            Project project = findProject(projectId);
+            String filepath = "/" + project.getProjectName();
             return filepath;
         }catch (Exception e) {
             System.out.println("도커 컴포즈 파일 경로 생성 오류 : " + e.getMessage());
@@ -501,70 +498,43 @@ public class DockerfileServiceImpl implements DockerfileService {
         }
     }
 
+    // 서버가 dobie-be 컨테이너 안에서 실행되므로 docker exec cat 프로세스 없이 직접 읽는다
     @Override
     public String readEnvironmentDockerFile(String filepath) {
-
-        CommandLine commandLine = new CommandLine("docker");
-        commandLine.addArgument("exec");
-        commandLine.addArgument("dobie-be"); //dobie-be 컨테이너에 접속하는건 고정(만약 나중에 명칭 바뀌면 바꿔줘야함)
-        commandLine.addArgument("cat");
-        commandLine.addArgument(filepath+"/Dockerfile"); //이렇게하면 아마 될걸..? 컨테이너에 ko2sist도비 말고 다른 컨테이너도 빌드해야 테스트 가능 ㅠ
-
-        DefaultExecutor executor = new DefaultExecutor();
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        PumpStreamHandler streamHandler = new PumpStreamHandler(outputStream);
-        executor.setStreamHandler(streamHandler);
-
         try {
-            executor.execute(commandLine);
-            String fileContent = outputStream.toString();
-            return fileContent;
-        } catch (Exception e) {
+            return Files.readString(Path.of(filepath, "Dockerfile"));
+        } catch (IOException e) {
             System.err.println("도커 파일 내용 조회 오류 : " + e.getMessage());
-            e.printStackTrace();
             throw new DockerFileContentNotFoundException();
         }
     }
 
     @Override
     public String readEnvironmentDockerComposeFile(String filepath) {
-        CommandLine commandLine = new CommandLine("docker");
-        commandLine.addArgument("exec");
-        commandLine.addArgument("dobie-be"); //dobie-be 컨테이너에 접속하는건 고정(만약 나중에 명칭 바뀌면 바꿔줘야함)
-        commandLine.addArgument("cat");
-        commandLine.addArgument(filepath+"/docker-compose.yml"); //이렇게하면 아마 될걸..? 컨테이너에 ko2sist도비 말고 다른 컨테이너도 빌드해야 테스트 가능 ㅠ
-
-        DefaultExecutor executor = new DefaultExecutor();
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        PumpStreamHandler streamHandler = new PumpStreamHandler(outputStream);
-        executor.setStreamHandler(streamHandler);
-
         try {
-            executor.execute(commandLine);
-            String fileContent = outputStream.toString();
-            return fileContent;
-        } catch (Exception e) {
+            return Files.readString(Path.of(filepath, "docker-compose.yml"));
+        } catch (IOException e) {
             System.err.println("도커 컴포즈 파일 내용 조회 오류 : " + e.getMessage());
-            e.printStackTrace();
             throw new DockerComposeFileContentNotFoundException();
         }
     }
 
     @Override
-    public String readContainerLog(String mountId) {
-        CommandLine commandLine = new CommandLine("docker");
-        commandLine.addArgument("logs");
-        commandLine.addArgument(mountId); //serviceId 또는 databaseId
-
-        DefaultExecutor executor = new DefaultExecutor();
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        PumpStreamHandler streamHandler = new PumpStreamHandler(outputStream);
-        executor.setStreamHandler(streamHandler);
+    public String readContainerLog(String mountId, Integer tail) {
+        ContainerLogPage page = readContainerLogPage(mountId, ContainerLogQuery.tail(tail));
+        return String.join("\n", page.lines());
+    }
 
+    @Override
+    public ContainerLogPage readContainerLogPage(String mountId, ContainerLogQuery query) {
         try {
-            executor.execute(commandLine);
-            String logContent = processBackspaces(removeAnsiEscapeCodes(outputStream.toString()));
-            return logContent;
+            //mountId : serviceId 또는 databaseId
+            ContainerLogPage page = dockerEngineService.readContainerLog(mountId, query);
+            List<String> lines = new ArrayList<>(page.lines().size());
+            page.lines().forEach(line -> lines.add(cleanLogLine(line)));
+            return new ContainerLogPage(lines, page.nextCursor(), page.hasMore());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidContainerLogQueryException(e.getMessage());
         } catch (Exception e) {
             System.err.println("컨테이너 로그 조회 오류 : " + e.getMessage());
             e.printStackTrace();
@@ -574,174 +544,93 @@ public class DockerfileServiceImpl implements DockerfileService {
 
 
 //----------------------------------------------------------------------------------------------------
-    public String readProceedingDockerContainer() throws IOException {
-        CommandLine commandLine = new CommandLine("docker");
-        commandLine.addArgument("ps");
-        commandLine.addArgument("-a"); // "-a" 옵션 추가
-        DefaultExecutor executor = new DefaultExecutor();
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        PumpStreamHandler streamHandler = new PumpStreamHandler(outputStream);
-        executor.setStreamHandler(streamHandler);
-
-        executor.execute(commandLine);
-        String dockerOutput = outputStream.toString();
-        return dockerOutput;
-    }
-
-    public HashMap<String,String> parseDockerPsOutput(String output) {//실행중인 컨테이너 status 조회시 사용
+    // 컨테이너 이름 -> 실행 상태 (docker ps -a 출력 파싱 대신 Engine API 결과 사용)
+    public HashMap<String,String> readContainerStatus() {
         HashMap<String,String> containers = new HashMap<>();
-        String[] lines = output.split("\n");
-        try {
-            // 첫 번째 줄은 헤더이므로 건너뜀
-            for (int i = 1; i < lines.length; i++) {
-                String[] parts = lines[i].split("\\s{2,}");  // 두 개 이상의 공백으로 분할
-                if (parts.length == 7) {
-                    String containerId = parts[0];
-                    String image = parts[1];
-                    String command = parts[2];
-                    String created = parts[3];
-                    String status = parts[4];
-                    String currentStatus = checkStatus(status);
-                    String ports = parts[5];
-                    String innerPort = splitPorts(ports, "inner");
-                    String outerPort = splitPorts(ports, "outer");
-                    String names = parts[6];
-                    containers.put(names, currentStatus);
-                } else {
-                    String containerId = parts[0];
-                    String image = parts[1];
-                    String command = parts[2];
-                    String created = parts[3];
-                    String status = parts[4];
-                    String currentStatus = checkStatus(status);
-                    String names = parts[5];
-                    containers.put(names, currentStatus);
-                }
-
+        dockerEngineService.getContainerStates().forEach((name, state) -> {
+            String status = checkState(state);
+            // 모르는 상태의 컨테이너 하나 때문에 전체 조회가 실패하지 않도록 건너뛴다
+            if (status != null) {
+                containers.put(name, status);
             }
-        }catch(Exception e){
-            throw new DockerPsLinePartsErrorException();
-        }
-
-
+        });
         return containers;
     }
 
-    public HashMap<String,String> parseDockerPsOutputOnlyName(String output) {//실행중인 컨테이너 이름 조회시 사용
-        HashMap<String,String> containers = new HashMap<>();
-        String[] lines = output.split("\n");
-        try {
-            // 첫 번째 줄은 헤더이므로 건너뜀
-            for (int i = 1; i < lines.length; i++) {
-                String[] parts = lines[i].split("\\s{2,}");  // 두 개 이상의 공백으로 분할
-                if (parts.length == 7) {
-                    String containerId = parts[0];
-                    String image = parts[1];
-                    String command = parts[2];
-                    String created = parts[3];
-                    String status = parts[4];
-                    String currentStatus = checkStatus(status);
-                    String ports = parts[5];
-                    String innerPort = splitPorts(ports, "inner");
-                    String outerPort = splitPorts(ports, "outer");
-                    String names = parts[6];
-                    containers.put(names, currentStatus);
-                } else {
-                    String containerId = parts[0];
-                    String image = parts[1];
-                    String command = parts[2];
-                    String created = parts[3];
-                    String status = parts[4];
-                    String currentStatus = checkStatus(status);
-                    String names = parts[5];
-                    containers.put(names, currentStatus);
-                }
-
-            }
-        }catch(Exception e){
-            throw new DockerPsLinePartsErrorException();
-        }
-
-
-        return containers;
-    }
-
-
-    public String checkStatus(String status){//실행중인 컨테이너 상태 반환
-        if(status.contains("Up")){
-            return "Running :)";
-        }else if(status.contains("Exited")){
-            return "Stopped :(";
-        }else if(status.contains("Created")){
-            return "Created :|";
-        }else{
-            throw new CurrentStatusNotFoundException();
-        }
-    }
-    public String splitPorts(String ports,String type){//실행중인 컨테이너 조회시 사용
-        if(type.equals("inner")) {
-            // ':'을 기준으로 문자열을 나눕니다.
-            String[] parts = ports.split(":");
-
-            // 나누어진 두 번째 부분('-'를 포함)에서 다시 '-'를 기준으로 나눕니다.
-            String[] subParts = parts[1].split("->");
-
-            // 결과적으로 첫 번째 부분이 포트 번호가 됩니다.
-            return subParts[0];
-        }
-        else if(type.equals("outer")){
-            // ':'을 기준으로 문자열을 나눕니다.
-            String[] parts = ports.split("->");
-
-            // 나누어진 두 번째 부분('-'를 포함)에서 다시 '-'를 기준으로 나눕니다.
-            String[] subParts = parts[1].split("/");
-
-            // 결과적으로 첫 번째 부분이 포트 번호가 됩니다.
-            return subParts[0];
-        }
-        else{
-            throw new PortNumberNotFoundException();
+    public String checkState(String state){//Engine API 컨테이너 state -> 상태 문자열, 모르는 상태면 null
+        if (state == null) {
+            return null;
+        }
+        switch (state) {
+            case "running":
+            case "paused":
+                return "Running :)";
+            case "exited":
+            case "dead":
+            case "restarting":
+            case "removing":
+                return "Stopped :(";
+            case "created":
+                return "Created :|";
+            default:
+                log.warn("알 수 없는 컨테이너 상태 : {}", state);
+                return null;
         }
     }
 
-    String removeAnsiEscapeCodes(String text) {//컨테이너 로그 가져올때 로그 언어 삭제 시키는 메소드
-        String withoutAnsiColors = text.replaceAll("\u001B\\[[;\\d]*m", "");
-        String withoutTerminalTitle = withoutAnsiColors.replaceAll("\u001B\\]0;.*?\u0007", "");
-        return withoutTerminalTitle.replaceAll("\u001B\\[\\?\\d{4}[hl]", "");
-    }
-
-    String processBackspaces(String text) { //컨테이너 로그 가져올때 백스페이스 삭제 시키는 메소드
-        StringBuilder sb = new StringBuilder();
-        for (char c : text.toCharArray()) {
-            if (c == '\b') {
+    /*
+     * 컨테이너 로그 한 줄 정리 (한 번 훑으면서 처리)
+     *   - ANSI 색상 등 CSI 시퀀스 (ESC [ ... 문자) 제거
+     *   - 터미널 제목 시퀀스 (ESC ] ... BEL) 제거
+     *   - 백스페이스는 앞 글자와 함께 삭제
+     */
+    String cleanLogLine(String line) {
+        StringBuilder sb = new StringBuilder(line.length());
+        int i = 0;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (c == '\u001B' && i + 1 < line.length() && line.charAt(i + 1) == '[') {
+                i += 2;
+                while (i < line.length() && !Character.isLetter(line.charAt(i))) {
+                    i++;
+                }
+                i++;
+            } else if (c == '\u001B' && i + 1 < line.length() && line.charAt(i + 1) == ']') {
+                int end = line.indexOf('\u0007', i);
+                i = end < 0 ? line.length() : end + 1;
+            } else if (c == '\b') {
                 if (sb.length() > 0) {
-                    sb.deleteCharAt(sb.length() - 1);
+                    sb.setLength(sb.length() - 1);
                 }
+                i++;
             } else {
                 sb.append(c);
+                i++;
             }
         }
         return sb.toString();
     }
 
     ArrayList<String> AnalyzeProjectContainer(String projectId){//프로젝트가 가지고있는 백,프론트엔드,데이터베이스의 아이디를 가져옴
+        try {
+            return AnalyzeProjectContainer(findProject(projectId));
+        }catch (Exception e){
+            e.printStackTrace();
+            throw new AnalyzeProjectContainerErrorException();
+        }
+    }
+
+    ArrayList<String> AnalyzeProjectContainer(Project project){
         try {
             ArrayList<String> result = new ArrayList<>();
-            ReadJsonFromDocker();
-            //project.json을 불러오는 메소드 -> readJsonService.JsonToMap()
-            //data/projectJson을 map으로 변환해서 불러왔음
-            Map<String, Object> projectJsonMap = ReadJsonFromDocker();
-            Map<String, Object> backendMap = (Map<String, Object>) readJsonService.JsonGetTwo(projectJsonMap, projectId, "backendMap");
-            String frontendId = (String) readJsonService.JsonGetThree(projectJsonMap, projectId, "frontend", "serviceId");
-            Map<String, Object> databaseMap = (Map<String, Object>) readJsonService.JsonGetTwo(projectJsonMap, projectId, "databaseMap");
-            if(backendMap!=null) {
-                result.addAll(backendMap.keySet());
-            }
-            if(frontendId!=null) {
-                result.add(frontendId);
-            }
-            if(databaseMap!=null) {
-                result.addAll(databaseMap.keySet());
+            if(project.getBackendMap()!=null) {
+                result.addAll(project.getBackendMap().keySet());
+            }
+            if(project.getFrontend()!=null && project.getFrontend().getServiceId()!=null) {
+                result.add(project.getFrontend().getServiceId());
+            }
+            if(project.getDatabaseMap()!=null) {
+                result.addAll(project.getDatabaseMap().keySet());
             }
             return result;
         }catch (Exception e){
@@ -750,32 +639,47 @@ public class DockerfileServiceImpl implements DockerfileService {
         }
     }
 
+    // 프로젝트 컨테이너 목록 + 전체 컨테이너 상태 -> 컨테이너별 상태, allRunning(하나라도 실행 중이면 Run)
+    HashMap<String,String> analyzeContainerStatus(List<String> analyzeList, Map<String,String> containers){
+        HashMap<String,String> analyzeContainer = new HashMap<>();
+        boolean allRunning = false;
+        for(String currentContainerName : analyzeList){
+            String currentStatus = containers.get(currentContainerName);
+            if(currentStatus==null){
+                analyzeContainer.put(currentContainerName,"ERROR :/");
+            }else {
+                analyzeContainer.put(currentContainerName, currentStatus);
+                if(currentStatus.equals("Running :)")){
+                    allRunning = true;
+                }
+            }
+        }
+        analyzeContainer.put("allRunning", allRunning ? "Run" : "Stop");
+        return analyzeContainer;
+    }
+
     HashMap<String,String> AnalyzeProjectContainerFramework(String projectId){//프로젝트가 가지고있는 백,프론트엔드,데이터베이스의 아이디를 가져옴
         try {
-            //project.json을 불러오는 메소드 -> readJsonService.JsonToMap()
-            //data/projectJson을 map으로 변환해서 불러왔음
-            Map<String, Object> projectJsonMap = ReadJsonFromDocker();
-            Map<String, Object> backendMap = (Map<String, Object>) readJsonService.JsonGetTwo(projectJsonMap, projectId, "backendMap");
-            String frontendId = (String) readJsonService.JsonGetThree(projectJsonMap, projectId, "frontend", "serviceId");
-            Map<String, Object> databaseMap = (Map<String, Object>) readJsonService.JsonGetTwo(projectJsonMap, projectId, "databaseMap");
+            Project project = findProject(projectId);
             HashMap<String,String> result = new HashMap<>();
-            if(backendMap!=null) {
-                for (String key : backendMap.keySet()) {
-                    String framework = (String) readJsonService.JsonGetFour(projectJsonMap, projectId, "backendMap", key, "framework");
-                    System.out.println("백엔드 컨테이너 명 : " + key + " 프레임워크 명 : " + framework);
-                    result.put(key, framework);
+            if(project.getBackendMap()!=null) {
+                for (Map.Entry<String, Backend> entry : project.getBackendMap().entrySet()) {
+                    String framework = entry.getValue().getFramework();
+                    log.debug("백엔드 컨테이너 명 : {} 프레임워크 명 : {}", entry.getKey(), framework);
+                    result.put(entry.getKey(), framework);
                 }
             }
-            if(frontendId!=null) {
-                String framework = (String) readJsonService.JsonGetThree(projectJsonMap, projectId, "frontend", "framework");
-                System.out.println("프론트엔드 컨테이너 명 : " + frontendId + " 프레임워크 명 : " + framework);
+            if(project.getFrontend()!=null && project.getFrontend().getServiceId()!=null) {
+                String frontendId = project.getFrontend().getServiceId();
+                String framework = project.getFrontend().getFramework();
+                log.debug("프론트엔드 컨테이너 명 : {} 프레임워크 명 : {}", frontendId, framework);
                 result.put(frontendId, framework);
             }
-            if(databaseMap!=null) {
-                for (String key : databaseMap.keySet()) {
-                    String framework = (String) readJsonService.JsonGetFour(projectJsonMap, projectId, "databaseMap", key, "databaseType");
-                    System.out.println("DB 컨테이너 명 : " + key + " 프레임워크 명 : " + framework);
-                    result.put(key, framework);
+            if(project.getDatabaseMap()!=null) {
+                for (Map.Entry<String, Database> entry : project.getDatabaseMap().entrySet()) {
+                    String framework = entry.getValue().getDatabaseType();
+                    log.debug("DB 컨테이너 명 : {} 프레임워크 명 : {}", entry.getKey(), framework);
+                    result.put(entry.getKey(), framework);
                 }
             }
 
@@ -786,34 +690,13 @@ public class DockerfileServiceImpl implements DockerfileService {
         }
     }
 
-    //도커에서 가져온 json파일을 map으로 변환
-    Map<String, Object> ReadJsonFromDocker(){
-        try {
-            String jsonContent = getJsonContentFromDocker("dobie-be", "/data/project.json");
-            ObjectMapper mapper = new ObjectMapper();
-            Map<String, Object> jsonMap = mapper.readValue(jsonContent, Map.class);
-            return jsonMap;
-        } catch (Exception e) {
-            e.printStackTrace();
+    // 메모리에 올라와 있는 프로젝트 조회 (docker exec로 project.json을 읽지 않는다)
+    Project findProject(String projectId){
+        Project project = readJsonService.getProjectView().project(projectId);
+        if(project==null){
+            throw new IllegalArgumentException("등록되지 않은 프로젝트입니다 : " + projectId);
         }
-        return null;
-    }
-
-    //도커에서 json파일 가져오기
-    String getJsonContentFromDocker(String containerName, String filePath) throws IOException {
-        CommandLine cmdLine = new CommandLine("docker");
-        cmdLine.addArgument("exec");
-        cmdLine.addArgument(containerName);
-        cmdLine.addArgument("cat");
-        cmdLine.addArgument(filePath);
-
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        DefaultExecutor executor = new DefaultExecutor();
-        PumpStreamHandler streamHandler = new PumpStreamHandler(outputStream);
-        executor.setStreamHandler(streamHandler);
-        executor.execute(cmdLine);
-
-        return outputStream.toString();
+        return project;
     }
 
 }
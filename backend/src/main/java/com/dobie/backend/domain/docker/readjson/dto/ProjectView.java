@@ -0,0 +1,81 @@
+package com.dobie.backend.domain.docker.readjson.dto;
+
+import com.dobie.backend.domain.project.entity.Backend;
+import com.dobie.backend.domain.project.entity.Database;
+import com.dobie.backend.domain.project.entity.Frontend;
+import com.dobie.backend.domain.project.entity.Project;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * 특정 시점의 전체 프로젝트 조회용 스냅샷 (project.json 구조와 동일)
+ *   project(projectId), backend(projectId, serviceId) ... : 타입이 있는 필드 조회
+ *   at("/{projectId}/backendMap/{serviceId}/path")         : JSON pointer 경로 조회
+ * 전달받은 Project는 backendMap, databaseMap, fileMap까지 수정할 수 없는 복사본(Project.frozen)으로 보관하므로
+ * 여러 스레드에 그대로 내줘도 내용이 바뀌지 않는다 (map 안의 Backend 등은 수정 메소드가 없어 공유)
+ * 저장소가 변경되면 ReadJsonService가 새로 만든다
+ */
+public class ProjectView {
+
+    // 생성 시점의 ProjectRepository 변경 번호
+    @Getter
+    private final long generation;
+    private final Map<String, Project> projects;
+    private final ObjectMapper mapper;
+
+    // JSON pointer 조회용 트리 (처음 사용할 때 생성)
+    private volatile JsonNode tree;
+
+    public ProjectView(long generation, Map<String, Project> projects, ObjectMapper mapper) {
+        this.generation = generation;
+        Map<String, Project> frozen = new HashMap<>();
+        projects.forEach((projectId, project) -> frozen.put(projectId, project.frozen(project.getVersion())));
+        this.projects = Map.copyOf(frozen);
+        this.mapper = mapper;
+    }
+
+    public Map<String, Project> projects() {
+        return projects;
+    }
+
+    // 없으면 null
+    public Project project(String projectId) {
+        return projects.get(projectId);
+    }
+
+    public Backend backend(String projectId, String serviceId) {
+        Project project = projects.get(projectId);
+        if (project == null || project.getBackendMap() == null) {
+            return null;
+        }
+        return project.getBackendMap().get(serviceId);
+    }
+
+    public Frontend frontend(String projectId) {
+        Project project = projects.get(projectId);
+        return project == null ? null : project.getFrontend();
+    }
+
+    public Database database(String projectId, String databaseId) {
+        Project project = projects.get(projectId);
+        if (project == null || project.getDatabaseMap() == null) {
+            return null;
+        }
+        return project.getDatabaseMap().get(databaseId);
+    }
+
+    // 경로에 값이 없으면 MissingNode
+    public JsonNode at(JsonPointer pointer) {
+        JsonNode root = tree;
+        if (root == null) {
+            root = mapper.valueToTree(projects);
+            tree = root;
+        }
+        return root.at(pointer);
+    }
+}
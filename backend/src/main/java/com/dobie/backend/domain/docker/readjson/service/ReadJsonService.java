@@ -1,12 +1,10 @@
 package com.dobie.backend.domain.docker.readjson.service;
 
-import java.util.Map;
+import com.dobie.backend.domain.docker.readjson.dto.ProjectView;
+import com.fasterxml.jackson.databind.JsonNode;
 
 public interface ReadJsonService {
-    Map<String, Object> JsonToMap();
+    ProjectView getProjectView();
 
-    Object JsonGetOne(Map<String, Object> projectJsonMap, String a);
-    Object JsonGetTwo(Map<String, Object> projectJsonMap, String a, String b);
-    Object JsonGetThree(Map<String, Object> projectJsonMap, String a, String b, String c);
-    Object JsonGetFour(Map<String, Object> projectJsonMap, String a, String b, String c, String d);
+    JsonNode JsonGet(String pointer);
 }
@@ -0,0 +1,53 @@
+package com.dobie.backend.domain.job.controller;
+
+import com.dobie.backend.domain.job.dto.JobGetResponseDto;
+import com.dobie.backend.domain.job.service.JobService;
+import com.dobie.backend.exception.format.code.ApiResponse;
+import com.dobie.backend.exception.format.response.ResponseCode;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@Tag(name = "Job 컨트롤러", description = "빌드/실행 작업 진행 상태 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/job")
+public class JobController {
+
+    private final ApiResponse response;
+    private final JobService jobService;
+
+    @Operation(summary = "작업 목록", description = "projectId를 주면 해당 프로젝트의 작업만 조회 (최신순)")
+    @GetMapping("")
+    public ResponseEntity<?> getJobs(@RequestParam(required = false) String projectId) {
+        List<JobGetResponseDto> jobs = jobService.getJobs(projectId);
+        return response.success(ResponseCode.JOB_LIST_FETCHED, jobs);
+    }
+
+    @Operation(summary = "작업 상태 조회", description = "작업 상태와 진행 단계 조회")
+    @GetMapping("/{jobId}")
+    public ResponseEntity<?> getJob(@PathVariable String jobId) {
+        JobGetResponseDto job = jobService.getJob(jobId);
+        return response.success(ResponseCode.JOB_FETCHED, job);
+    }
+
+    @Operation(summary = "작업 취소", description = "대기 중인 작업은 바로 취소, 실행 중인 작업은 중단 요청")
+    @PostMapping("/{jobId}/cancel")
+    public ResponseEntity<?> cancelJob(@PathVariable String jobId) {
+        JobGetResponseDto job = jobService.cancelJob(jobId);
+        return response.success(ResponseCode.JOB_CANCEL_REQUESTED, job);
+    }
+
+    @Operation(summary = "작업 로그 스트리밍", description = "명령어 출력을 SSE로 실시간 전달 (log 이벤트, 작업이 끝나면 end 이벤트), Last-Event-ID로 이어받기")
+    @GetMapping(value = "/{jobId}/logs", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamJobLog(@PathVariable String jobId,
+                                   @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return jobService.subscribeJobLog(jobId, lastEventId);
+    }
+}
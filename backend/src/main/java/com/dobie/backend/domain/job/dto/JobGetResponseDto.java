@@ -0,0 +1,42 @@
+package com.dobie.backend.domain.job.dto;
+
+import com.dobie.backend.domain.job.entity.Job;
+import com.dobie.backend.domain.job.entity.JobStatus;
+import com.dobie.backend.domain.job.entity.JobType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobGetResponseDto {
+    private String jobId;
+    private String projectId;
+    private JobType type;
+
+    private JobStatus status;
+    private String currentStep;
+    private List<String> steps;
+    private String errorMessage;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public JobGetResponseDto(Job job) {
+        this.jobId = job.getJobId();
+        this.projectId = job.getProjectId();
+        this.type = job.getType();
+        this.status = job.getStatus();
+        this.currentStep = job.getCurrentStep();
+        this.steps = job.getSteps();
+        this.errorMessage = job.getErrorMessage();
+        this.createdAt = job.getCreatedAt();
+        this.startedAt = job.getStartedAt();
+        this.finishedAt = job.getFinishedAt();
+    }
+}
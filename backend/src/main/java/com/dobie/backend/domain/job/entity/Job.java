@@ -0,0 +1,125 @@
+package com.dobie.backend.domain.job.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Future;
+
+// 비동기로 실행되는 빌드/실행 작업 1건, 상태 변경은 작업 스레드와 취소 요청 스레드에서 동시에 일어날 수 있으므로 synchronized
+@Getter
+public class Job {
+
+    private final String jobId;
+    private final String projectId;
+    private final JobType type;
+
+    private JobStatus status = JobStatus.QUEUED;
+    // 지나온 단계 (마지막이 현재 단계)
+    private final List<String> steps = new ArrayList<>();
+    private String errorMessage;
+
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    private boolean cancelRequested;
+    @Getter(AccessLevel.NONE)
+    private Future<?> future;
+
+    public Job(String jobId, String projectId, JobType type) {
+        this.jobId = jobId;
+        this.projectId = projectId;
+        this.type = type;
+    }
+
+    public synchronized JobStatus getStatus() {
+        return status;
+    }
+
+    public synchronized List<String> getSteps() {
+        return Collections.unmodifiableList(new ArrayList<>(steps));
+    }
+
+    public synchronized String getCurrentStep() {
+        return steps.isEmpty() ? null : steps.get(steps.size() - 1);
+    }
+
+    public synchronized String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public synchronized LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public synchronized LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public synchronized boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    public synchronized void attach(Future<?> future) {
+        this.future = future;
+        if (cancelRequested) {
+            future.cancel(true);
+        }
+    }
+
+    // 대기 중에 취소되었으면 false
+    public synchronized boolean start() {
+        if (cancelRequested) {
+            finish(JobStatus.CANCELLED, null);
+            return false;
+        }
+        status = JobStatus.RUNNING;
+        startedAt = LocalDateTime.now();
+        return true;
+    }
+
+    public synchronized void addStep(String step) {
+        steps.add(step);
+    }
+
+    public synchronized void succeed() {
+        finish(JobStatus.SUCCEEDED, null);
+    }
+
+    public synchronized void fail(String errorMessage) {
+        finish(cancelRequested ? JobStatus.CANCELLED : JobStatus.FAILED, errorMessage);
+    }
+
+    public synchronized void cancelled() {
+        finish(JobStatus.CANCELLED, null);
+    }
+
+    // 이미 끝난 작업이면 false
+    public synchronized boolean cancel() {
+        if (status.isFinished()) {
+            return false;
+        }
+        cancelRequested = true;
+        if (future != null) {
+            // 대기 중이면 큐에서 빠지고, 실행 중이면 작업 스레드를 interrupt
+            future.cancel(true);
+        }
+        if (status == JobStatus.QUEUED) {
+            finish(JobStatus.CANCELLED, null);
+        }
+        return true;
+    }
+
+    private void finish(JobStatus status, String errorMessage) {
+        if (this.status.isFinished()) {
+            return;
+        }
+        this.status = status;
+        this.errorMessage = errorMessage;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,10 @@
+package com.dobie.backend.domain.job.entity;
+
+public enum JobType {
+    // 빌드 파일 생성 (git clone/pull, Dockerfile, docker-compose, nginx config)
+    BUILD,
+    // docker compose up
+    RUN,
+    // webhook : git pull 후 다시 실행
+    REBUILD
+}
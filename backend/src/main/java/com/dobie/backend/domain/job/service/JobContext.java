@@ -0,0 +1,46 @@
+package com.dobie.backend.domain.job.service;
+
+import com.dobie.backend.domain.job.entity.Job;
+
+import java.util.concurrent.CancellationException;
+
+/*
+ * 현재 스레드에서 실행 중인 작업의 진행 단계 기록
+ * ProjectService 등에서 JobContext.step("...")으로 호출하며, 작업 밖(동기 호출)에서는 아무 일도 하지 않는다
+ * 단계가 바뀌는 시점에 취소 요청이 있으면 CancellationException으로 작업을 중단한다
+ * 단계는 작업 로그에도 한 줄로 남긴다
+ */
+public class JobContext {
+
+    private static final ThreadLocal<Job> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<JobLog> CURRENT_LOG = new ThreadLocal<>();
+
+    private JobContext() {
+    }
+
+    public static void step(String step) {
+        Job job = CURRENT.get();
+        if (job == null) {
+            return;
+        }
+        if (job.isCancelRequested() || Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("작업이 취소되었습니다 : " + job.getJobId());
+        }
+        job.addStep(step);
+
+        JobLog jobLog = CURRENT_LOG.get();
+        if (jobLog != null) {
+            jobLog.append("==> " + step);
+        }
+    }
+
+    static void bind(Job job, JobLog jobLog) {
+        CURRENT.set(job);
+        CURRENT_LOG.set(jobLog);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+        CURRENT_LOG.remove();
+    }
+}
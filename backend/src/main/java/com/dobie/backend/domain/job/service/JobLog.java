@@ -0,0 +1,171 @@
+package com.dobie.backend.domain.job.service;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+ * 작업 1건의 출력 로그 (마지막 capacity 줄만 보관하는 ring buffer)
+ * 줄마다 0부터 증가하는 번호를 붙이고, SSE event id로 사용해서 재연결 시 이어받을 수 있게 한다
+ * append는 명령어 출력을 읽는 스레드에서 호출되므로 ring에 넣기만 하고 바로 돌아간다
+ *   - 전송은 구독자마다 sender executor에서 자기 cursor부터 순서대로 한다 (느린 구독자가 빌드 출력을 막지 않도록)
+ *   - 아직 보내지 못한 줄이 ring에서 밀려난 구독자(capacity 줄 이상 뒤처짐)는 연결을 끊는다
+ *     클라이언트는 Last-Event-ID로 다시 연결하면 남아 있는 줄부터 이어받는다
+ */
+@Log4j2
+class JobLog {
+
+    private final String[] lines;
+    private final Executor sender;
+    // 다음에 추가될 줄 번호
+    private long nextSeq;
+
+    private final List<Subscriber> subscribers = new ArrayList<>();
+    // 작업이 끝났으면 최종 상태
+    private String finishedStatus;
+
+    JobLog(int capacity, Executor sender) {
+        this.lines = new String[capacity];
+        this.sender = sender;
+    }
+
+    void append(String line) {
+        List<Subscriber> targets;
+        synchronized (this) {
+            long seq = nextSeq++;
+            lines[(int) (seq % lines.length)] = line;
+            targets = List.copyOf(subscribers);
+        }
+        targets.forEach(Subscriber::schedule);
+    }
+
+    // lastEventId 다음 줄부터 (보관 범위 밖이면 남아 있는 가장 오래된 줄부터) 보내고 이후 줄을 계속 받는다
+    void subscribe(SseEmitter emitter, Long lastEventId) {
+        Subscriber subscriber;
+        synchronized (this) {
+            long oldest = oldestSeq();
+            long from = lastEventId == null ? oldest : Math.max(oldest, lastEventId + 1);
+            subscriber = new Subscriber(emitter, from);
+            subscribers.add(subscriber);
+        }
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        subscriber.schedule();
+    }
+
+    void finish(String status) {
+        List<Subscriber> targets;
+        synchronized (this) {
+            finishedStatus = status;
+            targets = List.copyOf(subscribers);
+        }
+        targets.forEach(Subscriber::schedule);
+    }
+
+    private synchronized void unsubscribe(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscribers.remove(subscriber);
+    }
+
+    // lock을 잡은 상태에서 호출
+    private long oldestSeq() {
+        return Math.max(0, nextSeq - lines.length);
+    }
+
+    private class Subscriber {
+
+        private final SseEmitter emitter;
+        // 다음에 보낼 줄 번호 (drain 중인 스레드 하나만 변경)
+        private long cursor;
+        // drain이 executor에 올라가 있거나 실행 중
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+
+        private void schedule() {
+            if (closed || !scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                close();
+            }
+        }
+
+        private void drain() {
+            while (!closed) {
+                List<String> batch = new ArrayList<>();
+                long first;
+                String status = null;
+                synchronized (JobLog.this) {
+                    if (cursor < oldestSeq()) {
+                        log.info("작업 로그 구독자가 {}줄 이상 뒤처져 연결을 끊습니다", lines.length);
+                        close();
+                        return;
+                    }
+                    first = cursor;
+                    for (long seq = cursor; seq < nextSeq; seq++) {
+                        batch.add(lines[(int) (seq % lines.length)]);
+                    }
+                    cursor = nextSeq;
+                    if (batch.isEmpty()) {
+                        status = finishedStatus;
+                        if (status == null) {
+                            // nextSeq는 같은 lock에서 증가하므로 이후 append의 schedule은 다시 drain을 올린다
+                            scheduled.set(false);
+                            return;
+                        }
+                    }
+                }
+
+                if (status != null) {
+                    sendEnd(status);
+                    return;
+                }
+                for (int i = 0; i < batch.size(); i++) {
+                    if (!send(first + i, batch.get(i))) {
+                        close();
+                        return;
+                    }
+                }
+            }
+        }
+
+        private boolean send(long seq, String line) {
+            try {
+                emitter.send(SseEmitter.event().id(String.valueOf(seq)).name("log").data(line));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                // 연결이 끊긴 구독자
+                log.debug("작업 로그 전송 실패 : {}", e.getMessage());
+                return false;
+            }
+        }
+
+        private void sendEnd(String status) {
+            try {
+                emitter.send(SseEmitter.event().name("end").data(status));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("작업 로그 종료 이벤트 전송 실패 : {}", e.getMessage());
+            }
+            close();
+        }
+
+        private void close() {
+            unsubscribe(this);
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.dobie.backend.domain.job.service;
+
+import com.dobie.backend.domain.job.dto.JobGetResponseDto;
+import com.dobie.backend.domain.job.entity.JobType;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+public interface JobService {
+
+    JobGetResponseDto submitJob(String projectId, JobType type);
+
+    JobGetResponseDto getJob(String jobId);
+
+    List<JobGetResponseDto> getJobs(String projectId);
+
+    JobGetResponseDto cancelJob(String jobId);
+
+    SseEmitter subscribeJobLog(String jobId, Long lastEventId);
+}
@@ -0,0 +1,307 @@
+package com.dobie.backend.domain.job.service;
+
+import com.dobie.backend.domain.job.dto.JobGetResponseDto;
+import com.dobie.backend.domain.job.entity.Job;
+import com.dobie.backend.domain.job.entity.JobType;
+import com.dobie.backend.domain.project.repository.ProjectRepository;
+import com.dobie.backend.domain.project.service.ProjectService;
+import com.dobie.backend.exception.exception.job.JobNotFoundException;
+import com.dobie.backend.exception.exception.job.JobQueueFullException;
+import com.dobie.backend.exception.exception.project.ProjectNotFoundException;
+import com.dobie.backend.util.command.BuildPriority;
+import com.dobie.backend.util.command.CommandOutput;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 빌드/실행/webhook 재시작을 요청 스레드와 분리해서 실행
+ * worker 수만큼 동시에 실행되고 나머지는 큐(queue-capacity)에서 대기, 큐가 가득 차면 JobQueueFullException
+ *   - 대기 큐는 BuildPriority 순 (사용자 요청 작업이 webhook 재빌드보다 먼저 worker를 얻는다)
+ * 끝난 작업은 retention-minutes 동안 조회할 수 있다
+ * 작업 중 실행한 명령어 출력은 작업별 로그(마지막 log-lines 줄)에 쌓이고 SSE로 실시간 전달된다
+ * 같은 프로젝트의 작업은 한 번에 하나씩만 실행한다 (같은 디렉토리에서 git pull/compose build가 겹치지 않도록)
+ *   - 실행 중에 들어온 요청은 프로젝트별 대기열(ProjectJobLane)에 두고, 앞 작업이 끝나면 worker에 넘긴다
+ *   - 아직 시작하지 않은 같은 종류의 작업이 있으면 그 작업으로 합친다 (webhook이 연달아 와도 후속 빌드는 1번)
+ */
+@Service
+@Log4j2
+public class JobServiceImpl implements JobService {
+
+    private final ProjectService projectService;
+    private final ProjectRepository projectRepository;
+    private final ThreadPoolExecutor workers;
+    private final int queueCapacity;
+    private final AtomicLong taskSequence = new AtomicLong();
+    // 작업 로그 SSE 전송 (구독자마다 전송 중인 스레드는 최대 1개)
+    private final ExecutorService logSender;
+    private final long retentionMinutes;
+    private final int logLines;
+    private final long logStreamTimeout;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final Map<String, JobLog> jobLogs = new ConcurrentHashMap<>();
+    private final Map<String, ProjectJobLane> lanes = new ConcurrentHashMap<>();
+
+    public JobServiceImpl(ProjectService projectService,
+                          ProjectRepository projectRepository,
+                          @Value("${dobie.job.workers:2}") int workerCount,
+                          @Value("${dobie.job.queue-capacity:50}") int queueCapacity,
+                          @Value("${dobie.job.retention-minutes:60}") long retentionMinutes,
+                          @Value("${dobie.job.log-lines:2000}") int logLines,
+                          @Value("${dobie.job.log-stream-timeout-minutes:30}") long logStreamTimeoutMinutes) {
+        this.projectService = projectService;
+        this.projectRepository = projectRepository;
+        this.retentionMinutes = retentionMinutes;
+        this.logLines = logLines;
+        this.logStreamTimeout = TimeUnit.MINUTES.toMillis(logStreamTimeoutMinutes);
+        this.queueCapacity = queueCapacity;
+
+        // PriorityBlockingQueue는 크기 제한이 없으므로 queue-capacity는 dispatch에서 확인한다
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount,
+                60L, TimeUnit.SECONDS, new PriorityBlockingQueue<>(), r -> {
+                    Thread thread = new Thread(r, "project-job-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        AtomicInteger senderCount = new AtomicInteger();
+        this.logSender = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "job-log-sender-" + senderCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public JobGetResponseDto submitJob(String projectId, JobType type) {
+        purgeFinishedJobs();
+        // 없는 projectId로 lane/작업이 쌓이지 않도록 (webhook은 인증 없이 호출된다)
+        if (!projectRepository.existsProject(projectId)) {
+            throw new ProjectNotFoundException(projectId);
+        }
+
+        while (true) {
+            ProjectJobLane lane = lanes.computeIfAbsent(projectId, id -> new ProjectJobLane());
+            synchronized (lane) {
+                // 그 사이 작업이 끝나서 제거된 lane이면 새 lane으로 다시 시도
+                if (!lane.isRetired()) {
+                    return submit(lane, projectId, type);
+                }
+            }
+        }
+    }
+
+    // lane을 잡은 상태에서 호출
+    private JobGetResponseDto submit(ProjectJobLane lane, String projectId, JobType type) {
+        Job pending = lane.findPending(type);
+        if (pending != null) {
+            log.info("대기 중인 작업에 합침 : {} {} ({})", type, projectId, pending.getJobId());
+            return new JobGetResponseDto(pending);
+        }
+
+        Job job = new Job(UUID.randomUUID().toString(), projectId, type);
+        jobs.put(job.getJobId(), job);
+        jobLogs.put(job.getJobId(), new JobLog(logLines, logSender));
+        if (lane.isIdle()) {
+            try {
+                dispatch(job);
+            } catch (RejectedExecutionException e) {
+                jobs.remove(job.getJobId());
+                jobLogs.remove(job.getJobId());
+                retireIfEmpty(lane, projectId);
+                throw new JobQueueFullException(projectId);
+            }
+            lane.activate(job);
+            log.info("작업 등록 : {} {} ({})", type, projectId, job.getJobId());
+        } else {
+            lane.enqueue(job);
+            log.info("작업 등록 (앞 작업 종료 후 실행) : {} {} ({})", type, projectId, job.getJobId());
+        }
+        return new JobGetResponseDto(job);
+    }
+
+    @Override
+    public JobGetResponseDto getJob(String jobId) {
+        return new JobGetResponseDto(findJob(jobId));
+    }
+
+    // projectId가 null이면 전체
+    @Override
+    public List<JobGetResponseDto> getJobs(String projectId) {
+        return jobs.values().stream()
+                .filter(job -> projectId == null || projectId.equals(job.getProjectId()))
+                .sorted(Comparator.comparing(Job::getCreatedAt).reversed())
+                .map(JobGetResponseDto::new)
+                .toList();
+    }
+
+    @Override
+    public JobGetResponseDto cancelJob(String jobId) {
+        Job job = findJob(jobId);
+        if (job.cancel()) {
+            log.info("작업 취소 요청 : {}", jobId);
+            // 대기 중에 취소되어 실행되지 않는 작업은 여기서 로그를 닫고 다음 작업으로 넘어간다
+            if (job.getStatus().isFinished()) {
+                jobLogs.get(jobId).finish(job.getStatus().name());
+                release(job);
+            }
+        }
+        return new JobGetResponseDto(job);
+    }
+
+    @Override
+    public SseEmitter subscribeJobLog(String jobId, Long lastEventId) {
+        findJob(jobId);
+        JobLog jobLog = jobLogs.get(jobId);
+        if (jobLog == null) {
+            throw new JobNotFoundException(jobId);
+        }
+
+        SseEmitter emitter = new SseEmitter(logStreamTimeout);
+        jobLog.subscribe(emitter, lastEventId);
+        return emitter;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+        logSender.shutdownNow();
+    }
+
+    // lane을 잡은 상태에서 호출, 대기 큐가 가득 찼으면 RejectedExecutionException
+    private void dispatch(Job job) {
+        if (workers.getQueue().size() >= queueCapacity) {
+            throw new RejectedExecutionException("job queue is full");
+        }
+        JobLog jobLog = jobLogs.get(job.getJobId());
+        JobTask task = new JobTask(() -> execute(job, jobLog), priorityOf(job), taskSequence.incrementAndGet());
+        // submit은 FutureTask로 다시 감싸서 우선순위 비교가 안 되므로 execute로 넘긴다
+        workers.execute(task);
+        job.attach(task);
+    }
+
+    // webhook 재빌드는 사용자가 요청한 작업보다 뒤에서 기다린다
+    private BuildPriority priorityOf(Job job) {
+        return job.getType() == JobType.REBUILD ? BuildPriority.BACKGROUND : BuildPriority.INTERACTIVE;
+    }
+
+    // job이 끝났을 때 호출, 같은 프로젝트의 다음 작업을 worker에 넘긴다 (여러 번 호출되어도 한 번만 처리)
+    private void release(Job job) {
+        ProjectJobLane lane = lanes.get(job.getProjectId());
+        if (lane == null) {
+            return;
+        }
+        synchronized (lane) {
+            try {
+                dispatchNext(lane, job);
+            } finally {
+                retireIfEmpty(lane, job.getProjectId());
+            }
+        }
+    }
+
+    // lane을 잡은 상태에서 호출, 남은 작업이 없으면 lane 제거 (프로젝트마다 lane이 계속 남지 않도록)
+    private void retireIfEmpty(ProjectJobLane lane, String projectId) {
+        if (lane.isEmpty() && !lane.isRetired()) {
+            lane.retire();
+            lanes.remove(projectId, lane);
+        }
+    }
+
+    // lane을 잡은 상태에서 호출
+    private void dispatchNext(ProjectJobLane lane, Job job) {
+        Job next = lane.release(job);
+        while (next != null) {
+            try {
+                dispatch(next);
+                lane.activate(next);
+                return;
+            } catch (RejectedExecutionException e) {
+                // 이미 접수한 요청이므로 실패로 남기고 그 다음 작업을 시도
+                next.fail("작업 대기열이 가득 차서 실행하지 못했습니다.");
+                jobLogs.get(next.getJobId()).finish(next.getStatus().name());
+                log.error("작업 실행 실패 (대기열 가득 참) : {} {} ({})",
+                        next.getType(), next.getProjectId(), next.getJobId());
+                lane.activate(next);
+                next = lane.release(next);
+            }
+        }
+    }
+
+    private void execute(Job job, JobLog jobLog) {
+        if (!job.start()) {
+            jobLog.finish(job.getStatus().name());
+            release(job);
+            return;
+        }
+
+        JobContext.bind(job, jobLog);
+        CommandOutput.bind(jobLog::append);
+        // webhook 재빌드는 사용자가 요청한 빌드보다 뒤에서 빌드 슬롯을 기다린다
+        BuildPriority.bind(priorityOf(job));
+        try {
+            switch (job.getType()) {
+                case BUILD -> projectService.buildTotalService(job.getProjectId());
+                case RUN -> projectService.runProject(job.getProjectId());
+                case REBUILD -> projectService.rebuildAndStartProject(job.getProjectId());
+            }
+            job.succeed();
+            log.info("작업 완료 : {} {} ({})", job.getType(), job.getProjectId(), job.getJobId());
+        } catch (CancellationException e) {
+            job.cancelled();
+            log.info("작업 취소됨 : {}", job.getJobId());
+        } catch (Exception e) {
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            job.fail(message);
+            log.error("작업 실패 : {} {} ({}) - {}", job.getType(), job.getProjectId(), job.getJobId(), message);
+        } finally {
+            JobContext.clear();
+            CommandOutput.clear();
+            BuildPriority.clear();
+            jobLog.finish(job.getStatus().name());
+            // 취소로 남은 interrupt 상태가 다음 작업에 넘어가지 않도록
+            Thread.interrupted();
+            release(job);
+        }
+    }
+
+    private Job findJob(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new JobNotFoundException(jobId);
+        }
+        return job;
+    }
+
+    private void purgeFinishedJobs() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> {
+            boolean expired = job.getStatus().isFinished()
+                    && job.getFinishedAt() != null && job.getFinishedAt().isBefore(expiredBefore);
+            if (expired) {
+                jobLogs.remove(job.getJobId());
+            }
+            return expired;
+        });
+    }
+}
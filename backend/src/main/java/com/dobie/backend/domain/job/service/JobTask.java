@@ -0,0 +1,28 @@
+package com.dobie.backend.domain.job.service;
+
+import com.dobie.backend.util.command.BuildPriority;
+
+import java.util.concurrent.FutureTask;
+
+/*
+ * worker 대기 큐(PriorityBlockingQueue)에 들어가는 작업
+ * BuildPriority 순으로 꺼내고, 같은 우선순위는 먼저 등록된 순서
+ *   - 빌드 슬롯보다 먼저 worker 자리에서 기다리게 되므로, 여기서 순서를 정해야 사용자 요청이 webhook 작업 뒤에 밀리지 않는다
+ */
+class JobTask extends FutureTask<Void> implements Comparable<JobTask> {
+
+    private final BuildPriority priority;
+    private final long sequence;
+
+    JobTask(Runnable runnable, BuildPriority priority, long sequence) {
+        super(runnable, null);
+        this.priority = priority;
+        this.sequence = sequence;
+    }
+
+    @Override
+    public int compareTo(JobTask other) {
+        int result = priority.compareTo(other.priority);
+        return result != 0 ? result : Long.compare(sequence, other.sequence);
+    }
+}
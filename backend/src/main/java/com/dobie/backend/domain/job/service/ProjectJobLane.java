@@ -0,0 +1,79 @@
+package com.dobie.backend.domain.job.service;
+
+import com.dobie.backend.domain.job.entity.Job;
+import com.dobie.backend.domain.job.entity.JobStatus;
+import com.dobie.backend.domain.job.entity.JobType;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/*
+ * 프로젝트 1개의 작업 순서 (JobServiceImpl이 lane 단위로 synchronized 해서 사용)
+ * worker에 넘긴 작업(active)은 프로젝트마다 최대 1개, 나머지는 waiting에서 순서대로 기다린다
+ * 아직 시작하지 않은 같은 종류의 작업이 있으면 새 작업을 만들지 않고 그 작업으로 합친다
+ *   - 시작 전이면 git pull도 아직 하지 않았으므로 그 사이 들어온 push까지 함께 반영된다
+ * 작업이 모두 끝나면 JobServiceImpl이 lane을 retire하고 map에서 제거한다 (retire된 lane에는 작업을 추가하지 않는다)
+ */
+class ProjectJobLane {
+
+    private Job active;
+    private final Deque<Job> waiting = new ArrayDeque<>();
+    private boolean retired;
+
+    // 합칠 수 있는 (아직 시작하지 않은) 같은 종류의 작업, 없으면 null
+    Job findPending(JobType type) {
+        if (active != null && active.getType() == type && active.getStatus() == JobStatus.QUEUED) {
+            return active;
+        }
+        return waiting.stream()
+                .filter(job -> job.getType() == type && job.getStatus() == JobStatus.QUEUED)
+                .findFirst()
+                .orElse(null);
+    }
+
+    boolean isIdle() {
+        return active == null;
+    }
+
+    // 실행 중인 작업도, 대기 중인 작업도 없으면 true
+    boolean isEmpty() {
+        return active == null && waiting.isEmpty();
+    }
+
+    boolean isRetired() {
+        return retired;
+    }
+
+    void retire() {
+        retired = true;
+    }
+
+    void activate(Job job) {
+        this.active = job;
+    }
+
+    void enqueue(Job job) {
+        waiting.add(job);
+    }
+
+    /*
+     * job을 lane에서 내보낸다
+     * active였으면 다음 작업을 꺼내서 반환하고 (없으면 null), 대기 중이었거나 이미 내보낸 작업이면 null
+     * 대기 중에 취소된 작업은 건너뛴다
+     */
+    Job release(Job job) {
+        if (active != job) {
+            waiting.remove(job);
+            return null;
+        }
+
+        active = null;
+        Job next;
+        while ((next = waiting.poll()) != null) {
+            if (!next.getStatus().isFinished()) {
+                return next;
+            }
+        }
+        return null;
+    }
+}
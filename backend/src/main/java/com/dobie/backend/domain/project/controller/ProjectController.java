@@ -1,13 +1,18 @@
 package com.dobie.backend.domain.project.controller;
 
+import com.dobie.backend.domain.job.dto.JobGetResponseDto;
+import com.dobie.backend.domain.job.entity.JobType;
+import com.dobie.backend.domain.job.service.JobService;
 import com.dobie.backend.domain.project.dto.ProjectRequestDto;
 import com.dobie.backend.domain.project.dto.ProjectGetResponseDto;
 import com.dobie.backend.domain.project.dto.file.FileGetDto;
 import com.dobie.backend.domain.project.dto.file.FilePostDto;
 import com.dobie.backend.domain.project.dto.file.FilePutDto;
+import com.dobie.backend.domain.project.entity.Project;
 import com.dobie.backend.domain.project.service.ProjectService;
 import com.dobie.backend.exception.format.code.ApiResponse;
 import com.dobie.backend.exception.format.response.ResponseCode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.io.BufferedReader;
@@ -30,6 +35,7 @@ public class ProjectController {
 
     private final ApiResponse response;
     private final ProjectService projectService;
+    private final JobService jobService;
 
     @Operation(summary = "전체 프로젝트", description = "전체 프로젝트")
     @GetMapping("")
@@ -57,20 +63,20 @@ public class ProjectController {
         return response.success(ResponseCode.PROJECT_INFO_UPDATED, dto);
     }
 
-    @Operation(summary = "프로젝트 빌드", description = "등록된 프로젝트(백, 프론트, db) 정보를 바탕으로 build파일 생성")
+    @Operation(summary = "프로젝트 빌드", description = "등록된 프로젝트(백, 프론트, db) 정보를 바탕으로 build파일 생성 작업 등록, 진행 상태는 /api/job/{jobId}")
     @PostMapping("/build/{projectId}")
     public ResponseEntity<?> buildTotalProject(@PathVariable String projectId) {
-        projectService.buildTotalService(projectId);
+        JobGetResponseDto job = jobService.submitJob(projectId, JobType.BUILD);
 
-        return response.success(ResponseCode.PROJECT_BUILD_SUCCESS);
+        return response.success(ResponseCode.PROJECT_BUILD_SUBMITTED, job);
     }
 
-    @Operation(summary = "프로젝트 등록, 빌드", description = "프로젝트 정보를 등록한 후 정보 기반으로 빌드파일 생성")
+    @Operation(summary = "프로젝트 등록, 빌드", description = "프로젝트 정보를 등록한 후 정보 기반으로 빌드파일 생성 작업 등록")
     @PostMapping("/regist")
     public ResponseEntity<?> registerProject(@RequestBody ProjectRequestDto dto) {
         String projectId = projectService.createProject(dto);
-        projectService.buildTotalService(projectId);
-        return response.success(ResponseCode.PROJECT_BUILD_SUCCESS);
+        JobGetResponseDto job = jobService.submitJob(projectId, JobType.BUILD);
+        return response.success(ResponseCode.PROJECT_BUILD_SUBMITTED, job);
     }
 
     @Operation(summary = "프로젝트 삭제", description = "프로젝트 삭제")
@@ -82,11 +88,11 @@ public class ProjectController {
     }
 
 
-    @Operation(summary = "프로젝트 실행", description = "dockerfile, compose 파일 바탕으로 프로젝트 빌드 후 실행")
+    @Operation(summary = "프로젝트 실행", description = "dockerfile, compose 파일 바탕으로 프로젝트 빌드 후 실행하는 작업 등록")
     @PostMapping("/run/{projectId}")
     public ResponseEntity<?> runProject(@PathVariable String projectId) {
-        projectService.runProject(projectId);
-        return response.success(ResponseCode.PROJECT_RUN_SUCCESS);
+        JobGetResponseDto job = jobService.submitJob(projectId, JobType.RUN);
+        return response.success(ResponseCode.PROJECT_RUN_SUBMITTED, job);
     }
 
 
@@ -111,11 +117,11 @@ public class ProjectController {
         return response.success(ResponseCode.SERVICE_START_SUCCESS);
     }
 
-    @Operation(summary = "프로젝트 재시작", description = "webhook 요청 시 프로젝트 재빌드, 시작")
+    @Operation(summary = "프로젝트 재시작", description = "webhook 요청 시 프로젝트 재빌드, 시작 작업 등록")
     @PostMapping("/webhook/{projectId}")
     public ResponseEntity<?> restartProject(@PathVariable String projectId) {
-        projectService.rebuildAndStartProject(projectId);
-        return response.success(ResponseCode.PROJECT_REBUILD_AND_START_SUCCESS);
+        JobGetResponseDto job = jobService.submitJob(projectId, JobType.REBUILD);
+        return response.success(ResponseCode.PROJECT_REBUILD_AND_START_SUBMITTED, job);
     }
 
     @Operation(summary = "프로젝트 환경설정 파일 추가", description = "gitignore에 존재하는 파일 첨부")
@@ -140,6 +146,20 @@ public class ProjectController {
         return response.success(ResponseCode.FILE_DELETE_SUCCESS);
     }
 
+    @Operation(summary = "프로젝트 데이터 내보내기", description = "저장 형식과 관계없이 전체 프로젝트 데이터를 json으로 조회")
+    @GetMapping("/data/export")
+    public ResponseEntity<?> exportProjects() {
+        Map<String, ObjectNode> projects = projectService.exportProjects();
+        return response.success(ResponseCode.PROJECT_DATA_EXPORTED, projects);
+    }
+
+    @Operation(summary = "프로젝트 데이터 가져오기", description = "내보낸 json 데이터를 현재 저장 형식으로 다시 저장")
+    @PostMapping("/data/import")
+    public ResponseEntity<?> importProjects(@RequestBody Map<String, Project> projects) {
+        int count = projectService.importProjects(projects);
+        return response.success(ResponseCode.PROJECT_DATA_IMPORTED, count);
+    }
+
     @Operation(summary = "파일첨부(리스트) 테스트", description = "gitignore에 존재하는 파일 첨부")
     @PostMapping(value="/upload", consumes = "multipart/form-data")
     public ResponseEntity<?> uploadFile(@RequestParam("files") List<MultipartFile> files) {
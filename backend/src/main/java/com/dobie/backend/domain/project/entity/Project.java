@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -26,6 +27,9 @@ public class Project {
 
     private Map<String, SettingFile> fileMap;
 
+    // 저장될 때마다 1씩 증가 (ProjectRepository compare-and-set 용)
+    private long version;
+
     public Project(String projectId, ProjectRequestDto dto){
         this.projectId = projectId;
         this.projectName = dto.getProjectName();
@@ -65,7 +69,19 @@ public class Project {
         });
     }
 
-    public void updateFileMap(Map<String, SettingFile> fileMap) {
-        this.fileMap = fileMap;
+    // ProjectRepository에 저장된 Project는 여러 요청이 공유하므로 직접 바꾸지 않고 바뀐 복사본을 만든다
+    public Project withFileMap(Map<String, SettingFile> fileMap) {
+        return new Project(projectId, projectName, projectDomain, usingHttps, git, backendMap, frontend, databaseMap,
+                fileMap, version);
+    }
+
+    // map까지 수정할 수 없는 복사본 (map 안의 Backend, Database, SettingFile은 수정 메소드가 없으므로 공유)
+    public Project frozen(long version) {
+        return new Project(projectId, projectName, projectDomain, usingHttps, git, unmodifiable(backendMap), frontend,
+                unmodifiable(databaseMap), unmodifiable(fileMap), version);
+    }
+
+    private static <V> Map<String, V> unmodifiable(Map<String, V> map) {
+        return map == null ? null : Collections.unmodifiableMap(new HashMap<>(map));
     }
 }
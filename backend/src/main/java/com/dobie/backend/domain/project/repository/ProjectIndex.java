@@ -0,0 +1,57 @@
+package com.dobie.backend.domain.project.repository;
+
+import com.dobie.backend.domain.project.entity.Project;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * ProjectRepository 보조 인덱스
+ *   serviceId(백엔드/프론트엔드 serviceId, databaseId) -> projectId
+ * docker-compose 파일의 container_name은 serviceId/databaseId로 생성되므로 serviceId 인덱스가 곧 컨테이너 이름 인덱스
+ * ProjectRepository가 같은 프로젝트에 대한 변경을 직렬화한 상태에서 호출한다
+ */
+class ProjectIndex {
+
+    private final Map<String, String> projectIdByService = new ConcurrentHashMap<>();
+
+    void add(Project project) {
+        String projectId = project.getProjectId();
+        serviceIds(project).forEach(serviceId -> projectIdByService.put(serviceId, projectId));
+    }
+
+    void remove(Project project) {
+        String projectId = project.getProjectId();
+        // 다른 프로젝트가 이미 가져간 키는 건드리지 않는다
+        serviceIds(project).forEach(serviceId -> projectIdByService.remove(serviceId, projectId));
+    }
+
+    void replace(Project previous, Project current) {
+        if (previous != null) {
+            remove(previous);
+        }
+        add(current);
+    }
+
+    String findByService(String serviceId) {
+        return projectIdByService.get(serviceId);
+    }
+
+    private List<String> serviceIds(Project project) {
+        List<String> ids = new ArrayList<>();
+        if (project.getBackendMap() != null) {
+            project.getBackendMap().values().forEach(backend -> ids.add(backend.getServiceId()));
+        }
+        if (project.getFrontend() != null && project.getFrontend().getServiceId() != null) {
+            ids.add(project.getFrontend().getServiceId());
+        }
+        if (project.getDatabaseMap() != null) {
+            project.getDatabaseMap().values().forEach(database -> ids.add(database.getDatabaseId()));
+        }
+        ids.removeIf(Objects::isNull);
+        return ids;
+    }
+}
@@ -5,233 +5,309 @@ import com.dobie.backend.domain.project.entity.Database;
 import com.dobie.backend.domain.project.entity.Frontend;
 import com.dobie.backend.domain.project.entity.Project;
 import com.dobie.backend.domain.project.entity.SettingFile;
+import com.dobie.backend.domain.project.repository.store.ProjectStore;
+import com.dobie.backend.exception.exception.project.ProjectUpdateConflictException;
+import com.dobie.backend.util.file.DataFileWatcher;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.MapType;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Repository;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
 
 @Repository
 @RequiredArgsConstructor
+@Log4j2
 public class ProjectRepository {
 
+    private final ProjectStore projectStore;
     private final ObjectMapper mapper;
+    private final DataFileWatcher dataFileWatcher;
 
-    private static final String BASE_PATH = new File("").getAbsolutePath();
-    private static final String RESOURCE_PATH = "/src/main/resources";
-    private static final String FILE_NAME = "/data/project.json";
-    private static final String FILE_PATH =
-            Files.exists(Paths.get(BASE_PATH + RESOURCE_PATH + FILE_NAME)) ? BASE_PATH + RESOURCE_PATH + FILE_NAME : BASE_PATH + FILE_NAME;
-    public void upsertProject(Project project) {
-        try{
-            // 파일 읽기
-            File file = new File(FILE_PATH);
+    // compare-and-set 충돌 시 재시도 횟수
+    private static final int MAX_UPDATE_ATTEMPTS = 10;
 
-            // mapper class 지정
-            MapType mapType =
-                    mapper.getTypeFactory().constructMapType(Map.class, String.class, Project.class);
+    /*
+     * 저장소 내용을 서버 시작 시 한 번만 읽어서 메모리에 보관 (조회는 모두 여기서 처리)
+     * 보관하는 Project는 map까지 수정할 수 없는 복사본(Project.frozen)이라 조회 시 복사 없이 그대로 반환한다
+     *   - 호출한 쪽이 저장을 요청한 Project의 map을 나중에 바꿔도 캐시에는 영향이 없다
+     * 변경은 modifyProject에서 복사본에 적용한 뒤 새 Project로 교체한다 (copy-on-write)
+     */
+    private final Map<String, Project> projects = new ConcurrentHashMap<>();
 
-            // project map 불러오기
-            Map<String, Project> projects = mapper.readValue(file, mapType);
+    // projects가 변경될 때마다 증가 (조회용 스냅샷 무효화에 사용)
+    private final AtomicLong generation = new AtomicLong();
 
-            // project 생성
-            projects.put(String.valueOf(project.getProjectId()), project);
+    // serviceId, databaseId(컨테이너 이름) -> projectId 보조 인덱스
+    private final ProjectIndex projectIndex = new ProjectIndex();
 
+    // 같은 프로젝트의 저장소 반영은 한 번에 하나씩만, 서로 다른 프로젝트는 병렬로 처리 (lock striping)
+    private static final int LOCK_STRIPES = 64;
+    private final Object[] writeLocks = createLocks();
 
-            mapper.writerWithDefaultPrettyPrinter()
-                    .writeValue(file, projects);
-        }catch (IOException e ){
-            e.getStackTrace();
-        }
-    }
-
-    public Map<String, Project> selectProjects() {
-        try{
-            // 파일 읽기
-            File file = new File(FILE_PATH);
+    @PostConstruct
+    public void loadProjects() {
+        projectStore.loadAll().forEach((projectId, project) -> projects.put(projectId, project.frozen(project.getVersion())));
+        projects.values().forEach(projectIndex::add);
+        log.info("프로젝트 로드 완료 : {}개", projects.size());
 
-            // mapper class 지정
-            MapType mapType =
-                    mapper.getTypeFactory().constructMapType(Map.class, String.class, Project.class);
+        projectStore.externalSource()
+                .ifPresent(source -> dataFileWatcher.watch(source.file(), () -> reloadProjects(source)));
+    }
 
-            return mapper.readValue(file, mapType);
+    /*
+     * 운영자가 저장소 파일을 직접 수정했을 때 호출 (DataFileWatcher)
+     * 내용이 달라진 프로젝트만 교체하고, 파일에서 빠진 프로젝트는 메모리에서도 제거한다
+     * 교체된 프로젝트는 버전을 올려서 수정 전 상태를 기준으로 한 compare-and-set이 실패하도록 한다
+     * 파일을 읽는 사이 서버에서 먼저 변경된 프로젝트는 서버 쪽 변경을 유지한다
+     */
+    public void reloadProjects(ProjectStore.ExternalSource source) {
+        Map<String, Long> versions = new HashMap<>();
+        projects.forEach((projectId, project) -> versions.put(projectId, project.getVersion()));
+
+        Map<String, Project> loaded;
+        try {
+            loaded = source.reload();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
 
-        }catch (IOException e ){
-            e.getStackTrace();
+        int changed = 0;
+        for (Map.Entry<String, Project> entry : loaded.entrySet()) {
+            String projectId = entry.getKey();
+            Project external = entry.getValue();
+            synchronized (lockFor(projectId)) {
+                Project current = projects.get(projectId);
+                if (changedSince(versions, projectId, current)
+                        || (current != null && sameContents(current, external))) {
+                    continue;
+                }
+                Project replaced = external.frozen(
+                        current == null ? 1 : Math.max(current.getVersion(), external.getVersion()) + 1);
+                projects.put(projectId, replaced);
+                projectIndex.replace(current, replaced);
+                generation.incrementAndGet();
+                changed++;
+            }
         }
 
-        return null;
+        for (String projectId : versions.keySet()) {
+            if (loaded.containsKey(projectId)) {
+                continue;
+            }
+            synchronized (lockFor(projectId)) {
+                Project current = projects.get(projectId);
+                if (current == null || changedSince(versions, projectId, current)) {
+                    continue;
+                }
+                projects.remove(projectId);
+                projectIndex.remove(current);
+                generation.incrementAndGet();
+                changed++;
+            }
+        }
+        log.info("프로젝트 다시 읽기 완료 : 변경 {}건", changed);
     }
 
-    public Project searchProject(String projectId){
-        try{
-            // 파일 읽기
-            File file = new File(FILE_PATH);
-
-            // mapper class 지정
-            MapType mapType =
-                    mapper.getTypeFactory().constructMapType(Map.class, String.class, Project.class);
-
-            // projectMap 불러오기
-            Map<String, Project> projectMap = mapper.readValue(file, mapType);
-
-            return projectMap.get(projectId);
-        } catch (IOException e){
-            e.getStackTrace();
+    // 버전 확인 없이 덮어쓰기, 저장된 Project를 반환
+    public Project upsertProject(Project project) {
+        synchronized (lockFor(project.getProjectId())) {
+            Project current = projects.get(String.valueOf(project.getProjectId()));
+            Project saved = project.frozen(current == null ? 1 : current.getVersion() + 1);
+            save(saved, current);
+            return saved;
         }
-
-        return null;
     }
 
-    public Map<String, Backend> selectBackends(String projectId) {
-        try{
-            // 파일 읽기
-            File file = new File(FILE_PATH);
-
-            // mapper class 지정
-            MapType mapType =
-                    mapper.getTypeFactory().constructMapType(Map.class, String.class, Project.class);
+    // 저장된 버전이 expectedVersion과 같을 때만 반영 (compare-and-set), 반영되면 true
+    public boolean compareAndSetProject(long expectedVersion, Project project) {
+        return compareAndSet(expectedVersion, project) != null;
+    }
 
-            // project map 불러오기
-            Map<String, Project> projects = mapper.readValue(file, mapType);
+    // 반영되면 저장된 Project, 아니면 null
+    private Project compareAndSet(long expectedVersion, Project project) {
+        synchronized (lockFor(project.getProjectId())) {
+            Project current = projects.get(String.valueOf(project.getProjectId()));
+            if (current == null || current.getVersion() != expectedVersion) {
+                return null;
+            }
+            Project saved = project.frozen(expectedVersion + 1);
+            save(saved, current);
+            return saved;
+        }
+    }
 
-            return projects.get(projectId).getBackendMap();
-        }catch (IOException e){
-            e.getStackTrace();
+    /*
+     * 현재 저장된 프로젝트의 수정 가능한 복사본에 change를 적용한 뒤 compare-and-set으로 반영
+     * 그 사이 다른 요청이 먼저 반영했다면 최신 상태로 다시 복사해서 change를 재적용한다
+     * change는 재시도될 수 있으므로 전달받은 프로젝트 외의 상태를 바꾸면 안 된다
+     * 반영된 Project를 반환하고, 프로젝트가 없으면 null
+     */
+    public Project modifyProject(String projectId, UnaryOperator<Project> change) {
+        for (int attempt = 1; attempt <= MAX_UPDATE_ATTEMPTS; attempt++) {
+            Project current = projects.get(projectId);
+            if (current == null) {
+                return null;
+            }
+
+            Project updated = compareAndSet(current.getVersion(), change.apply(mapper.convertValue(current, Project.class)));
+            if (updated != null) {
+                return updated;
+            }
+            log.info("프로젝트 동시 수정 충돌, 재시도합니다 : {} ({}회)", projectId, attempt);
+            Thread.yield();
         }
+        throw new ProjectUpdateConflictException(projectId);
+    }
 
-        return null;
+    public long getGeneration() {
+        return generation.get();
     }
 
-    public Backend searchBackend(String projectId, String serviceId) {
-        try{
-            // 파일 읽기
-            File file = new File(FILE_PATH);
+    /*
+     * 조회 메소드는 캐시된 Project를 복사 없이 반환한다 (map 포함 수정 불가)
+     * 변경은 modifyProject/compareAndSetProject/upsertProject로만 한다
+     */
+    public Map<String, Project> selectProjects() {
+        return Collections.unmodifiableMap(new HashMap<>(projects));
+    }
 
-            // mapper class 지정
-            MapType mapType =
-                    mapper.getTypeFactory().constructMapType(Map.class, String.class, Project.class);
+    public boolean existsProject(String projectId) {
+        return projectId != null && projects.containsKey(projectId);
+    }
 
-            // project map 불러오기
-            Map<String, Project> projects = mapper.readValue(file, mapType);
+    public Project searchProject(String projectId){
+        return projects.get(projectId);
+    }
 
-            //
-            Map<String, Backend> backendMap = projects.get(projectId).getBackendMap();
+    public Map<String, Backend> selectBackends(String projectId) {
+        return searchProject(projectId).getBackendMap();
+    }
 
-            return backendMap.get(serviceId);
-        }catch (IOException e){
-            e.getStackTrace();
-        }
+    public Backend searchBackend(String projectId, String serviceId) {
+        Map<String, Backend> backendMap = searchProject(projectId).getBackendMap();
 
-        return null;
+        return backendMap.get(serviceId);
     }
 
     public Frontend searchFrontend(String projectId) {
-        try{
-            // 파일 읽기
-            File file = new File(FILE_PATH);
-
-            // mapper class 지정
-            MapType mapType =
-                    mapper.getTypeFactory().constructMapType(Map.class, String.class, Project.class);
-
-            // project map 불러오기
-            Map<String, Project> projects = mapper.readValue(file, mapType);
-
-            return projects.get(projectId).getFrontend();
-        }catch (IOException e){
-            e.getStackTrace();
-        }
-
-        return null;
+        return searchProject(projectId).getFrontend();
     }
 
     public Map<String, Database> selectDatabases(String projectId){
-        try {
-            // 파일 읽기
-            File file = new File(FILE_PATH);
-
-            // mapper class 지정
-            MapType mapType =
-                    mapper.getTypeFactory().constructMapType(Map.class, String.class, Project.class);
-
-            // project map 불러오기
-            Map<String, Project> projects = mapper.readValue(file, mapType);
-
-            return projects.get(projectId).getDatabaseMap();
-        }catch (IOException e){
-            e.getStackTrace();
-        }
-        return null;
+        return searchProject(projectId).getDatabaseMap();
     }
 
     public Database searchDatabase(String projectId, String databaseId) {
-        try{
-            // 파일 읽기
-            File file = new File(FILE_PATH);
-
-            // mapper class 지정
-            MapType mapType =
-                    mapper.getTypeFactory().constructMapType(Map.class, String.class, Project.class);
-
-            // project map 불러오기
-            Map<String, Project> projects = mapper.readValue(file, mapType);
+        return searchProject(projectId).getDatabaseMap()
+                .get(databaseId);
+    }
 
-            return projects.get(projectId).getDatabaseMap()
-                    .get(databaseId);
-        }catch (IOException e){
-            e.getStackTrace();
+    public void deleteProject(String projectId) {
+        synchronized (lockFor(projectId)) {
+            // project 삭제
+            Project removed = projects.remove(projectId);
+            if (removed != null) {
+                projectIndex.remove(removed);
+                generation.incrementAndGet();
+            }
+
+            // 저장소 반영
+            try {
+                projectStore.removeProject(projectId, projects);
+            } catch (RuntimeException e) {
+                if (removed != null) {
+                    restore(projectId, null, removed);
+                }
+                throw e;
+            }
         }
-
-        return null;
     }
 
-    public void deleteProject(String projectId) {
-        try{
-            // 파일 읽기
-            File file = new File(FILE_PATH);
+    public Map<String, SettingFile> selectFiles(String projectId) {
+        return searchProject(projectId).getFileMap();
+    }
 
-            // mapper class 지정
-            MapType mapType =
-                    mapper.getTypeFactory().constructMapType(Map.class, String.class, Project.class);
+    // 서비스(컨테이너)를 가진 프로젝트 조회, 컨테이너 이름은 serviceId 또는 databaseId
+    public Project searchProjectByServiceId(String serviceId) {
+        String projectId = projectIndex.findByService(serviceId);
+        return projectId == null ? null : searchProject(projectId);
+    }
 
-            // project map 불러오기
-            Map<String, Project> projects = mapper.readValue(file, mapType);
+    /*
+     * lockFor(projectId)를 잡은 상태에서 호출
+     * 저장소는 전달받은 projects에서 최신 상태를 직렬화하므로 메모리에 먼저 반영하고,
+     * 저장소 반영에 실패하면 이전 상태로 되돌린 뒤 예외를 그대로 던진다 (메모리와 파일이 어긋나지 않도록)
+     */
+    private void save(Project project, Project previous) {
+        String projectId = String.valueOf(project.getProjectId());
+        projects.put(projectId, project);
+        projectIndex.replace(previous, project);
+        generation.incrementAndGet();
+
+        // 저장소 반영
+        try {
+            projectStore.writeProject(project, projects);
+        } catch (RuntimeException e) {
+            restore(projectId, project, previous);
+            throw e;
+        }
+    }
 
-            // project 삭제
+    // current를 반영하기 전 상태(previous, 없었으면 삭제)로 되돌린다
+    private void restore(String projectId, Project current, Project previous) {
+        if (previous == null) {
             projects.remove(projectId);
-
-            // json 파일 작성
-            mapper.writerWithDefaultPrettyPrinter()
-                    .writeValue(file, projects);
-
-        }catch (IOException e){
-            e.getStackTrace();
+        } else {
+            projects.put(projectId, previous);
+        }
+        if (current != null) {
+            projectIndex.remove(current);
         }
+        if (previous != null) {
+            projectIndex.add(previous);
+        }
+        generation.incrementAndGet();
+        log.error("프로젝트 저장소 반영 실패, 메모리 상태를 되돌렸습니다 : {}", projectId);
     }
 
-    public Map<String, SettingFile> selectFiles(String projectId) {
-        try {
-            // 파일 읽기
-            File file = new File(FILE_PATH);
+    private boolean changedSince(Map<String, Long> versions, String projectId, Project current) {
+        Long version = versions.get(projectId);
+        if (current == null) {
+            // 읽기 전에 없던 프로젝트면 파일 내용으로 추가, 읽는 사이 서버에서 삭제되었으면 유지하지 않는다
+            return version != null;
+        }
+        return version == null || version != current.getVersion();
+    }
 
-            // mapper class 지정
-            MapType mapType =
-                mapper.getTypeFactory().constructMapType(Map.class, String.class, Project.class);
+    // version을 제외한 내용 비교
+    private boolean sameContents(Project current, Project external) {
+        ObjectNode currentTree = mapper.valueToTree(current);
+        ObjectNode externalTree = mapper.valueToTree(external);
+        currentTree.remove("version");
+        externalTree.remove("version");
+        return currentTree.equals(externalTree);
+    }
 
-            // project map 불러오기
-            Map<String, Project> projects = mapper.readValue(file, mapType);
+    private Object lockFor(String projectId) {
+        return writeLocks[Math.floorMod(String.valueOf(projectId).hashCode(), LOCK_STRIPES)];
+    }
 
-            return projects.get(projectId).getFileMap();
-        }catch (IOException e){
-            e.getStackTrace();
+    private static Object[] createLocks() {
+        Object[] locks = new Object[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
         }
-        return null;
+        return locks;
     }
 
 }
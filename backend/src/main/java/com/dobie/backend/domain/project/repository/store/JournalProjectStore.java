@@ -0,0 +1,229 @@
+package com.dobie.backend.domain.project.repository.store;
+
+import com.dobie.backend.domain.project.entity.Project;
+import com.dobie.backend.exception.exception.file.SaveFileFailedException;
+import com.dobie.backend.util.file.SnapshotWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 변경 1건마다 project.<확장자>.log 에 레코드를 덧붙이는 방식
+ * 레코드 형식 : [4byte 길이][codec으로 직렬화한 JournalRecord (json이면 compact json)]
+ * 백그라운드 compactor가 주기적으로(또는 레코드가 일정 개수 이상 쌓이면) project.<확장자> 스냅샷으로 합치고 로그를 비운다
+ * 서버 시작 시 스냅샷을 읽은 뒤 로그를 순서대로 재적용한다
+ * 스냅샷 파일은 compaction 때 메모리 상태로 덮어쓰므로 외부 수정 감시(DataFileWatcher) 대상이 아니다
+ */
+@Component
+@Log4j2
+@ConditionalOnProperty(name = "dobie.data.project-store", havingValue = "journal")
+public class JournalProjectStore implements ProjectStore {
+
+    // 이보다 긴 레코드는 깨진 레코드로 본다
+    private static final int MAX_RECORD_SIZE = 64 * 1024 * 1024;
+
+    private final ObjectMapper mapper;
+    private final ProjectCodec codec;
+    private final SnapshotWriter snapshotWriter;
+    private final Path legacyFile;
+    private final Path snapshotFile;
+    private final Path logFile;
+    private final long compactInterval;
+    private final int compactThreshold;
+
+    private final ScheduledExecutorService compactor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "project-journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private FileChannel journal;
+    private int pendingRecords;
+    // compaction 시 스냅샷으로 쓸 전체 상태 (마지막으로 전달받은 것)
+    private Map<String, Project> projects;
+
+    @Autowired
+    public JournalProjectStore(ObjectMapper mapper,
+                               ProjectCodec codec,
+                               SnapshotWriter snapshotWriter,
+                               @Value("${dobie.data.journal.compact-interval:60}") long compactInterval,
+                               @Value("${dobie.data.journal.compact-threshold:500}") int compactThreshold) {
+        this(mapper, codec, snapshotWriter, ProjectFiles.LEGACY_FILE, compactInterval, compactThreshold);
+    }
+
+    // legacyFile : data 디렉토리의 project.json (테스트에서 임시 디렉토리 지정)
+    JournalProjectStore(ObjectMapper mapper, ProjectCodec codec, SnapshotWriter snapshotWriter,
+                        Path legacyFile, long compactInterval, int compactThreshold) {
+        this.mapper = mapper;
+        this.codec = codec;
+        this.snapshotWriter = snapshotWriter;
+        this.legacyFile = legacyFile;
+        this.snapshotFile = ProjectFiles.snapshotFile(legacyFile, codec);
+        this.logFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".log");
+        this.compactInterval = compactInterval;
+        this.compactThreshold = compactThreshold;
+    }
+
+    @Override
+    public synchronized Map<String, Project> loadAll() {
+        Map<String, Project> loaded = ProjectFiles.readSnapshot(snapshotFile, legacyFile, codec, mapper);
+        int replayed = replayJournal(loaded);
+        log.info("{} 로드 완료 : {}개, 재적용한 로그 {}건", snapshotFile, loaded.size(), replayed);
+
+        try {
+            journal = FileChannel.open(logFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new IllegalStateException("project journal 파일을 열 수 없습니다 : " + logFile, e);
+        }
+
+        // 재적용한 로그가 있으면 바로 스냅샷으로 합친다
+        projects = loaded;
+        pendingRecords = replayed;
+        compact();
+
+        compactor.scheduleWithFixedDelay(this::compact, compactInterval, compactInterval, TimeUnit.SECONDS);
+        return loaded;
+    }
+
+    @Override
+    public synchronized void writeProject(Project project, Map<String, Project> projects) {
+        append(new JournalRecord(JournalRecord.PUT, project.getProjectId(), project), projects);
+    }
+
+    @Override
+    public synchronized void removeProject(String projectId, Map<String, Project> projects) {
+        append(new JournalRecord(JournalRecord.DELETE, projectId, null), projects);
+    }
+
+    @PreDestroy
+    public void close() {
+        compactor.shutdown();
+        compact();
+        synchronized (this) {
+            try {
+                if (journal != null) {
+                    journal.close();
+                }
+            } catch (IOException e) {
+                log.error("project journal 닫기 실패 : {}", e.getMessage());
+            }
+        }
+    }
+
+    // 기록(fsync)에 실패하면 SaveFileFailedException (호출한 쪽에서 메모리 반영을 취소한다)
+    private void append(JournalRecord record, Map<String, Project> projects) {
+        long position = -1;
+        try {
+            byte[] payload = codec.getMapper().writeValueAsBytes(record);
+            ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + payload.length);
+            buffer.putInt(payload.length).put(payload).flip();
+            position = journal.size();
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            journal.force(false);
+        } catch (IOException e) {
+            log.error("project journal 기록 실패 : {}", e.getMessage());
+            discardPartialRecord(position);
+            throw new SaveFileFailedException(e.getMessage());
+        }
+        this.projects = projects;
+
+        if (++pendingRecords >= compactThreshold && !compactor.isShutdown()) {
+            compactor.execute(this::compact);
+        }
+    }
+
+    // 일부만 기록된 레코드 뒤에 다음 레코드가 붙으면 재적용할 때 깨진 레코드로 읽히므로 잘라낸다
+    private void discardPartialRecord(long position) {
+        if (position < 0) {
+            return;
+        }
+        try {
+            journal.truncate(position);
+        } catch (IOException e) {
+            log.error("project journal 복구 실패 : {}", e.getMessage());
+        }
+    }
+
+    // 로그에 쌓인 변경을 project.json 스냅샷으로 합치고 로그를 비운다
+    private synchronized void compact() {
+        if (pendingRecords == 0 || projects == null || journal == null) {
+            return;
+        }
+        Map<String, Project> snapshot = projects;
+        try {
+            // 스냅샷을 쓴 뒤에 로그를 비우므로 그 사이에 죽더라도 재적용 결과는 같다
+            snapshotWriter.write(snapshotFile, () -> codec.getWriter().writeValueAsBytes(snapshot));
+            journal.truncate(0);
+            journal.force(true);
+            log.info("project journal compaction 완료 : {}건", pendingRecords);
+            pendingRecords = 0;
+        } catch (IOException | SaveFileFailedException e) {
+            log.error("project journal compaction 실패 : {}", e.getMessage());
+        }
+    }
+
+    private int replayJournal(Map<String, Project> target) {
+        File file = logFile.toFile();
+        if (!file.exists()) {
+            return 0;
+        }
+
+        int replayed = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                if (length < 0 || length > MAX_RECORD_SIZE) {
+                    log.warn("project journal 레코드 길이가 올바르지 않아 재적용을 중단합니다 : {}", length);
+                    break;
+                }
+
+                byte[] payload = new byte[length];
+                try {
+                    in.readFully(payload);
+                } catch (EOFException e) {
+                    // 기록 도중 종료되어 잘린 마지막 레코드
+                    log.warn("project journal 마지막 레코드가 잘려있어 무시합니다.");
+                    break;
+                }
+
+                JournalRecord record = codec.getMapper().readValue(payload, JournalRecord.class);
+                if (JournalRecord.DELETE.equals(record.getOp())) {
+                    target.remove(record.getProjectId());
+                } else {
+                    target.put(record.getProjectId(), record.getProject());
+                }
+                replayed++;
+            }
+        } catch (IOException e) {
+            log.error("project journal 재적용 실패 : {}", e.getMessage());
+        }
+        return replayed;
+    }
+}
@@ -0,0 +1,20 @@
+package com.dobie.backend.domain.project.repository.store;
+
+import com.dobie.backend.domain.project.entity.Project;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// project.json.log 에 한 줄씩 쌓이는 변경 기록
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JournalRecord {
+
+    public static final String PUT = "PUT";
+    public static final String DELETE = "DELETE";
+
+    private String op;
+    private String projectId;
+    private Project project;
+}
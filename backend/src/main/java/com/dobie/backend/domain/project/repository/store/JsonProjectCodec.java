@@ -0,0 +1,31 @@
+package com.dobie.backend.domain.project.repository.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 기존 형식 그대로 사람이 읽을 수 있는 pretty json
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "dobie.data.codec", havingValue = "json", matchIfMissing = true)
+public class JsonProjectCodec implements ProjectCodec {
+
+    private final ObjectMapper mapper;
+
+    @Override
+    public String getExtension() {
+        return "json";
+    }
+
+    @Override
+    public ObjectMapper getMapper() {
+        return mapper;
+    }
+
+    @Override
+    public ObjectWriter getWriter() {
+        return mapper.writerWithDefaultPrettyPrinter();
+    }
+}
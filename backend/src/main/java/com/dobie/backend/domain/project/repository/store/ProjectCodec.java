@@ -0,0 +1,17 @@
+package com.dobie.backend.domain.project.repository.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+// 프로젝트 저장소 직렬화 형식 (dobie.data.codec 설정으로 선택)
+public interface ProjectCodec {
+
+    // 저장 파일 확장자
+    String getExtension();
+
+    // 읽기 및 journal 레코드처럼 compact 하게 써야 하는 곳에서 사용
+    ObjectMapper getMapper();
+
+    // 스냅샷 파일 쓰기용
+    ObjectWriter getWriter();
+}
@@ -0,0 +1,66 @@
+package com.dobie.backend.domain.project.repository.store;
+
+import com.dobie.backend.domain.project.entity.Project;
+import com.dobie.backend.util.file.DataPath;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.MapType;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+// 프로젝트 저장소 파일 경로 및 스냅샷 읽기 공통 처리
+@Log4j2
+class ProjectFiles {
+
+    // 기존 단일 파일 (json)
+    static final Path LEGACY_FILE = Paths.get(DataPath.resolve("/data/project.json"));
+
+    private ProjectFiles() {
+    }
+
+    static Path snapshotFile(ProjectCodec codec) {
+        return snapshotFile(LEGACY_FILE, codec);
+    }
+
+    // legacyFile : data 디렉토리의 project.json (스냅샷 파일은 같은 디렉토리)
+    static Path snapshotFile(Path legacyFile, ProjectCodec codec) {
+        return legacyFile.resolveSibling("project." + codec.getExtension());
+    }
+
+    static Map<String, Project> readSnapshot(Path file, ProjectCodec codec, ObjectMapper jsonMapper) {
+        return readSnapshot(file, LEGACY_FILE, codec, jsonMapper);
+    }
+
+    // 스냅샷 파일이 없으면 기존 project.json에서 읽어온다 (codec 변경 후 첫 실행)
+    static Map<String, Project> readSnapshot(Path file, Path legacyFile, ProjectCodec codec, ObjectMapper jsonMapper) {
+        ObjectMapper reader = codec.getMapper();
+        if (!Files.exists(file) && Files.exists(legacyFile)) {
+            file = legacyFile;
+            reader = jsonMapper;
+        }
+        if (!Files.exists(file)) {
+            log.info(file + " :파일이 없어 빈 프로젝트 목록으로 시작합니다.");
+            return new HashMap<>();
+        }
+
+        try {
+            return read(file, reader);
+        } catch (IOException e) {
+            log.error("{} 로드 실패 : {}", file, e.getMessage());
+            return new HashMap<>();
+        }
+    }
+
+    static Map<String, Project> read(Path file, ObjectMapper reader) throws IOException {
+        // mapper class 지정
+        MapType mapType =
+                reader.getTypeFactory().constructMapType(HashMap.class, String.class, Project.class);
+
+        return reader.readValue(file.toFile(), mapType);
+    }
+}
@@ -0,0 +1,34 @@
+package com.dobie.backend.domain.project.repository.store;
+
+import com.dobie.backend.domain.project.entity.Project;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+
+// ProjectRepository의 영속화 방식 (dobie.data.project-store 설정으로 선택)
+public interface ProjectStore {
+
+    // 저장된 전체 프로젝트를 불러온다 (서버 시작 시 1회)
+    Map<String, Project> loadAll();
+
+    // 프로젝트 1건 생성/수정 반영, projects는 반영 이후의 전체 상태
+    void writeProject(Project project, Map<String, Project> projects);
+
+    // 프로젝트 1건 삭제 반영, projects는 반영 이후의 전체 상태
+    void removeProject(String projectId, Map<String, Project> projects);
+
+    // 운영자가 직접 수정할 수 있는 파일이 있으면 그 파일 (DataFileWatcher 감시 대상)
+    default Optional<ExternalSource> externalSource() {
+        return Optional.empty();
+    }
+
+    interface ExternalSource {
+
+        Path file();
+
+        // file()을 다시 읽는다, 파일이 없거나 읽을 수 없으면 예외 (빈 목록으로 덮어쓰지 않도록)
+        Map<String, Project> reload() throws IOException;
+    }
+}
@@ -0,0 +1,167 @@
+package com.dobie.backend.domain.project.repository.store;
+
+import com.dobie.backend.domain.project.entity.Project;
+import com.dobie.backend.util.file.SnapshotWriter;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.MapType;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 프로젝트마다 파일을 따로 두는 방식
+ *   data/projects/index.json          : 등록된 projectId 목록
+ *   data/projects/<projectId>.<확장자> : 프로젝트 1건 (확장자는 dobie.data.codec에 따라 json/smile)
+ * 한 프로젝트의 변경은 해당 파일만 다시 쓰므로 서로 다른 프로젝트의 쓰기는 병렬로 처리된다
+ * index.json은 프로젝트가 추가/삭제될 때만 다시 쓴다
+ * 처음 실행 시 index.json이 없고 기존 project.json이 있으면 프로젝트별 파일로 나눠서 옮긴다 (project.json은 그대로 둔다)
+ * 프로젝트 파일이 여러 개로 나뉘어 있어 외부 수정 감시(DataFileWatcher)는 하지 않는다
+ * codec을 바꾼 뒤에는 새 확장자 파일이 없는 프로젝트를 <projectId>.json에서 읽고, 다음 변경 때 새 형식으로 저장된다
+ */
+@Component
+@Log4j2
+@ConditionalOnProperty(name = "dobie.data.project-store", havingValue = "sharded")
+public class ShardedProjectStore implements ProjectStore {
+
+    private final ObjectMapper mapper;
+    private final ProjectCodec codec;
+    private final SnapshotWriter snapshotWriter;
+    private final Path legacyFile;
+    private final Path shardDir;
+    private final Path indexFile;
+
+    // index.json에 기록되어 있는 projectId
+    private final Set<String> indexedIds = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public ShardedProjectStore(ObjectMapper mapper, ProjectCodec codec, SnapshotWriter snapshotWriter) {
+        this(mapper, codec, snapshotWriter, ProjectFiles.LEGACY_FILE);
+    }
+
+    // legacyFile : data 디렉토리의 project.json, shard는 같은 디렉토리의 projects/ 아래 (테스트에서 임시 디렉토리 지정)
+    ShardedProjectStore(ObjectMapper mapper, ProjectCodec codec, SnapshotWriter snapshotWriter, Path legacyFile) {
+        this.mapper = mapper;
+        this.codec = codec;
+        this.snapshotWriter = snapshotWriter;
+        this.legacyFile = legacyFile;
+        this.shardDir = legacyFile.getParent().resolve("projects");
+        this.indexFile = shardDir.resolve("index.json");
+    }
+
+    @Override
+    public Map<String, Project> loadAll() {
+        if (!Files.exists(indexFile) && Files.exists(legacyFile)) {
+            return migrateLegacyFile();
+        }
+
+        Map<String, Project> loaded = new HashMap<>();
+        if (!Files.exists(indexFile)) {
+            return loaded;
+        }
+
+        try {
+            List<String> ids = mapper.readValue(indexFile.toFile(), new TypeReference<List<String>>() {});
+            for (String projectId : ids) {
+                Project project = readShard(projectId);
+                if (project == null) {
+                    log.warn("index.json에는 있지만 파일이 없는 프로젝트입니다 : {}", projectId);
+                    continue;
+                }
+                loaded.put(projectId, project);
+                indexedIds.add(projectId);
+            }
+        } catch (IOException e) {
+            log.error("프로젝트 shard 로드 실패 : {}", e.getMessage());
+        }
+        return loaded;
+    }
+
+    @Override
+    public void writeProject(Project project, Map<String, Project> projects) {
+        String projectId = project.getProjectId();
+
+        // 프로젝트 파일을 먼저 쓰고 index에 추가 (index에 있는 id는 항상 파일이 존재)
+        snapshotWriter.write(shardPath(projectId), () -> serialize(projects.get(projectId)));
+        if (indexedIds.add(projectId)) {
+            writeIndex(projects);
+        }
+    }
+
+    @Override
+    public void removeProject(String projectId, Map<String, Project> projects) {
+        // index에서 먼저 빼고 파일 삭제
+        if (indexedIds.remove(projectId)) {
+            writeIndex(projects);
+        }
+        snapshotWriter.delete(shardPath(projectId));
+    }
+
+    private Map<String, Project> migrateLegacyFile() {
+        try {
+            MapType mapType =
+                    mapper.getTypeFactory().constructMapType(HashMap.class, String.class, Project.class);
+            Map<String, Project> legacy = mapper.readValue(legacyFile.toFile(), mapType);
+
+            for (Map.Entry<String, Project> entry : legacy.entrySet()) {
+                Project project = entry.getValue();
+                snapshotWriter.write(shardPath(entry.getKey()), () -> serialize(project));
+                indexedIds.add(entry.getKey());
+            }
+            writeIndex(legacy);
+
+            log.info("project.json -> {} 로 {}개 프로젝트 이전 완료", shardDir, legacy.size());
+            return legacy;
+        } catch (IOException e) {
+            log.error("project.json 이전 실패 : {}", e.getMessage());
+            return new HashMap<>();
+        }
+    }
+
+    // codec 확장자 파일이 없으면 이전 형식(json) 파일을 읽는다
+    private Project readShard(String projectId) throws IOException {
+        Path shard = shardPath(projectId);
+        if (Files.exists(shard)) {
+            return codec.getMapper().readValue(shard.toFile(), Project.class);
+        }
+
+        Path jsonShard = shardDir.resolve(projectId + ".json");
+        if (!shard.equals(jsonShard) && Files.exists(jsonShard)) {
+            return mapper.readValue(jsonShard.toFile(), Project.class);
+        }
+        return null;
+    }
+
+    private void writeIndex(Map<String, Project> projects) {
+        snapshotWriter.write(indexFile,
+                () -> mapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(new TreeSet<>(projects.keySet())));
+    }
+
+    // 이미 삭제된 프로젝트면 null (파일 삭제)
+    private byte[] serialize(Project project) throws IOException {
+        if (project == null) {
+            return null;
+        }
+        return codec.getWriter().writeValueAsBytes(project);
+    }
+
+    private Path shardPath(String projectId) {
+        // projectId는 요청 값으로 들어올 수 있으므로 경로 탈출 방지
+        if (projectId == null || projectId.isBlank() || projectId.contains("/")
+                || projectId.contains("\\") || projectId.contains("..")) {
+            throw new IllegalArgumentException("사용할 수 없는 projectId 입니다 : " + projectId);
+        }
+        return shardDir.resolve(projectId + "." + codec.getExtension());
+    }
+}
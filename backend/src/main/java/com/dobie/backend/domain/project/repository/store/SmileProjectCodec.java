@@ -0,0 +1,37 @@
+package com.dobie.backend.domain.project.repository.store;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// jackson Smile 바이너리 형식 (파일 크기, 직렬화 시간 감소), json으로 보려면 /api/project/data/export 사용
+@Component
+@ConditionalOnProperty(name = "dobie.data.codec", havingValue = "smile")
+public class SmileProjectCodec implements ProjectCodec {
+
+    // JsonConfig의 ObjectMapper와 같은 설정
+    private final ObjectMapper mapper = new ObjectMapper(new SmileFactory())
+            .registerModule(new JavaTimeModule())
+            .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+            .configure(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE, false);
+
+    @Override
+    public String getExtension() {
+        return "smile";
+    }
+
+    @Override
+    public ObjectMapper getMapper() {
+        return mapper;
+    }
+
+    @Override
+    public ObjectWriter getWriter() {
+        return mapper.writer();
+    }
+}
@@ -0,0 +1,60 @@
+package com.dobie.backend.domain.project.repository.store;
+
+import com.dobie.backend.domain.project.entity.Project;
+import com.dobie.backend.util.file.SnapshotWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+
+// 변경이 있을 때마다 project.<확장자> 전체를 다시 쓰는 기본 방식
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "dobie.data.project-store", havingValue = "snapshot", matchIfMissing = true)
+public class SnapshotProjectStore implements ProjectStore {
+
+    private final ObjectMapper mapper;
+    private final ProjectCodec codec;
+    private final SnapshotWriter snapshotWriter;
+
+    @Override
+    public Map<String, Project> loadAll() {
+        return ProjectFiles.readSnapshot(ProjectFiles.snapshotFile(codec), codec, mapper);
+    }
+
+    @Override
+    public void writeProject(Project project, Map<String, Project> projects) {
+        writeSnapshot(projects);
+    }
+
+    @Override
+    public void removeProject(String projectId, Map<String, Project> projects) {
+        writeSnapshot(projects);
+    }
+
+    @Override
+    public Optional<ExternalSource> externalSource() {
+        Path file = ProjectFiles.snapshotFile(codec);
+        return Optional.of(new ExternalSource() {
+            @Override
+            public Path file() {
+                return file;
+            }
+
+            @Override
+            public Map<String, Project> reload() throws IOException {
+                return ProjectFiles.read(file, codec.getMapper());
+            }
+        });
+    }
+
+    // 쓰는 시점의 최신 상태로 직렬화되므로 연속된 변경은 한 번의 쓰기로 합쳐진다
+    private void writeSnapshot(Map<String, Project> projects) {
+        snapshotWriter.write(ProjectFiles.snapshotFile(codec), () -> codec.getWriter().writeValueAsBytes(projects));
+    }
+}
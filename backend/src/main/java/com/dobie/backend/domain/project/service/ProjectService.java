@@ -5,7 +5,9 @@ import com.dobie.backend.domain.project.dto.*;
 import com.dobie.backend.domain.project.dto.file.FileGetDto;
 import com.dobie.backend.domain.project.dto.file.FilePostDto;
 import com.dobie.backend.domain.project.dto.file.FilePutDto;
+import com.dobie.backend.domain.project.entity.Project;
 import com.dobie.backend.domain.project.entity.SettingFile;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.util.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -54,5 +56,9 @@ public interface ProjectService {
 
     void deleteFile(FilePutDto dto);
 
+    Map<String, ObjectNode> exportProjects();
+
+    int importProjects(Map<String, Project> projects);
+
 }
 
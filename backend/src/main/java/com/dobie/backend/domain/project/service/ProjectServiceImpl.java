@@ -2,6 +2,7 @@ package com.dobie.backend.domain.project.service;
 
 import com.dobie.backend.domain.docker.dockercompose.service.DockerComposeService;
 import com.dobie.backend.domain.docker.dockerfile.service.DockerfileService;
+import com.dobie.backend.domain.job.service.JobContext;
 import com.dobie.backend.domain.nginx.service.NginxConfigService;
 import com.dobie.backend.domain.project.dto.*;
 import com.dobie.backend.domain.project.dto.file.FileGetDto;
@@ -16,8 +17,15 @@ import com.dobie.backend.domain.project.repository.ProjectRepository;
 import com.dobie.backend.exception.exception.build.*;
 import com.dobie.backend.exception.exception.file.SaveFileFailedException;
 import com.dobie.backend.exception.exception.git.GitInfoNotFoundException;
+import com.dobie.backend.exception.exception.project.InvalidProjectDataException;
 import com.dobie.backend.util.command.CommandService;
+import com.dobie.backend.util.command.ComposeBuildPlan;
+import com.dobie.backend.util.command.ComposeBuildPlanner;
+import com.dobie.backend.util.command.GitCheckoutStrategy;
+import com.dobie.backend.util.docker.DockerEngineService;
 import com.dobie.backend.util.file.FileManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import java.io.File;
 import java.io.InputStream;
@@ -41,18 +49,20 @@ public class ProjectServiceImpl implements ProjectService {
 
     private final ProjectRepository projectRepository;
     private final CommandService commandService;
+    private final DockerEngineService dockerEngineService;
     private final DockerfileService dockerfileService;
     private final DockerComposeService dockerComposeService;
+    // 입력(build context, compose 설정)이 바뀐 서비스만 다시 빌드
+    private final ComposeBuildPlanner composeBuildPlanner;
     private final NginxConfigService nginxConfigService;
+    private final ObjectMapper mapper;
     private final FileManager fileManager = new FileManager();
 
     @Override
     public String createProject(ProjectRequestDto dto) {
         String projectId = UUID.randomUUID().toString();
         Project project = new Project(projectId, dto);
-        Map<String, SettingFile> fileMap = new HashMap<>();
-        project.updateFileMap(fileMap);
-        projectRepository.upsertProject(project);
+        projectRepository.upsertProject(project.withFileMap(new HashMap<>()));
         return projectId;
     }
 
@@ -121,20 +131,24 @@ public class ProjectServiceImpl implements ProjectService {
             dto.setProjectId(UUID.randomUUID().toString());
         }
         Project project = new Project(dto);
-        Map<String, SettingFile> fileMap = getAllFiles(dto.getProjectId());
-        project.updateFileMap(fileMap);
-        projectRepository.upsertProject(project);
+
+        // 기존 프로젝트면 저장 시점의 fileMap을 유지한 채로 교체 (동시에 추가된 파일을 덮어쓰지 않도록)
+        Project updated = projectRepository.modifyProject(dto.getProjectId(),
+                current -> project.withFileMap(current.getFileMap()));
+        if (updated == null) {
+            projectRepository.upsertProject(project.withFileMap(new HashMap<>()));
+        }
     }
 
     @Override
     public void deleteProject(String projectId) {
         Project project = projectRepository.searchProject(projectId);
         File directory = new File(project.getProjectName());
+        String path = "./" + project.getProjectName();
 
         // 디렉토리 존재 여부 확인
         if (directory.exists()) {
             // 프로젝트 중지 (이미지까지 삭제)
-            String path = "./" + project.getProjectName();
             commandService.dockerComposeDown(path);
             System.out.println("프로젝트 삭제 시 컴포즈 다운 성공");
             // git clone한 디렉토리 삭제
@@ -142,6 +156,9 @@ public class ProjectServiceImpl implements ProjectService {
             System.out.println("프로젝트 삭제 시 디렉토리 삭제 성공");
         }
 
+        // 같은 이름으로 다시 만든 프로젝트가 이전 빌드 기록을 보지 않도록 삭제
+        composeBuildPlanner.forget(path);
+
         // Json에서 삭제
         projectRepository.deleteProject(projectId);
         // nginx config 파일 삭제
@@ -166,14 +183,21 @@ public class ProjectServiceImpl implements ProjectService {
         String path = "./" + projectGetResponseDto.getProjectName();
 
         // 이미 clone 되어있는지 check
+        JobContext.step("git clone/pull");
+        List<String> servicePaths = servicePaths(projectGetResponseDto);
         if (!commandService.checkIsCloned(path)) {
-            commandService.gitClone(gitInfo.getGitUrl(), gitInfo.getAccessToken());
+            commandService.gitClone(gitInfo.getGitUrl(), gitInfo.getAccessToken(), path, gitInfo.getBranch(), servicePaths);
         } else {
-            commandService.gitPull(path);
+            commandService.gitPull(gitInfo.getGitUrl(), gitInfo.getAccessToken(), path, gitInfo.getBranch(), servicePaths);
         }
 
+        // 프로젝트 브랜치와 다른 브랜치를 쓰는 서비스는 브랜치별 worktree에서 빌드
+        JobContext.step("브랜치별 worktree checkout");
+        checkoutServiceBranches(projectGetResponseDto, path);
+
 
         // dockerfile 생성
+        JobContext.step("Dockerfile 생성");
         // 백엔드
         Map<String, BackendGetResponseDto> backendInfo = projectGetResponseDto.getBackendMap();
         backendInfo.forEach((key, value) -> {
@@ -198,9 +222,11 @@ public class ProjectServiceImpl implements ProjectService {
         }
 
         // docker-compose 파일 생성
+        JobContext.step("docker-compose 파일 생성");
         dockerComposeService.createDockerComposeFile(projectGetResponseDto);
 
         //nginx proxy config 파일생성
+        JobContext.step("nginx 설정 파일 생성");
         nginxConfigService.saveProxyNginxConfig(projectId, frontendInfo.isUsingNginx(), frontendInfo.getServiceId());
 
         if (frontendInfo.isUsingNginx()) {
@@ -232,11 +258,16 @@ public class ProjectServiceImpl implements ProjectService {
         } else {
             ProjectGetResponseDto projectGetResponseDto = getProject(projectId);
             String path = "./" + projectGetResponseDto.getProjectName();
-            commandService.dockerComposeUp(path);
+            ComposeBuildPlan plan = composeBuildPlanner.plan(path);
+            JobContext.step("docker compose up" + buildTargets(plan));
+            commandService.dockerComposeUp(path, plan.buildServices());
 
+            JobContext.step("컨테이너 실행 확인");
             if (!verifyComposeUpSuccess(path)) {
                 throw new ProjectStartFailedException("Verify compose up failed.");
             }
+            composeBuildPlanner.record(path, plan);
+            JobContext.step("nginx 재시작");
             commandService.restartNginx();
         }
     }
@@ -244,17 +275,8 @@ public class ProjectServiceImpl implements ProjectService {
     @Override
     public boolean verifyComposeUpSuccess(String path) {
         try {
-            String command = "docker compose -f " + path + "/docker-compose.yml ps";
-            Process process = Runtime.getRuntime().exec(command);
-            BufferedReader br = new BufferedReader(new InputStreamReader(process.getInputStream()));
-
-            String line;
-            while ((line = br.readLine()) != null) {
-                if (line.contains("Up")) {
-                    return true;
-                }
-            }
-            return false;
+            // docker compose ps 대신 compose label(working_dir)로 컨테이너 조회
+            return dockerEngineService.isComposeProjectRunning(path);
         } catch (Exception e) {
             throw new ProjectStartFailedException(e.getMessage(), "컨테이너 실행 검증에 실패했습니다.");
         }
@@ -266,24 +288,33 @@ public class ProjectServiceImpl implements ProjectService {
         GitGetResponseDto gitInfo = dto.getGit();
         String path = "./" + dto.getProjectName();
 
+        // pull이나 worktree checkout이 실패하면 이전 코드로 배포하지 않고 작업을 실패시킨다
         try {
-
             // git pull
+            JobContext.step("git pull");
             if (commandService.checkIsCloned(path)) {
-                commandService.gitPull(path);
+                commandService.gitPull(gitInfo.getGitUrl(), gitInfo.getAccessToken(), path, gitInfo.getBranch(),
+                        servicePaths(dto));
+                checkoutServiceBranches(dto, path);
             } else {
                 log.info("프로젝트 정보가 없습니다. Build를 처음부터 진행합니다.");
                 buildTotalService(projectId);
             }
-        } catch (Exception e) {
-            e.getStackTrace();
+        } catch (RuntimeException e) {
+            log.error("프로젝트 소스 갱신 실패 : {} ({})", projectId, e.getMessage());
+            throw e;
         }
 
         // projectRestart
-        commandService.dockerComposeUp(path);
+        // 입력이 바뀐 서비스만 다시 빌드
+        ComposeBuildPlan plan = composeBuildPlanner.plan(path);
+        JobContext.step("docker compose up" + buildTargets(plan));
+        commandService.dockerComposeUp(path, plan.buildServices());
+        JobContext.step("컨테이너 실행 확인");
         if (!verifyComposeUpSuccess(path)) {
             throw new ProjectStartFailedException("Verify compose up failed.");
         }
+        composeBuildPlanner.record(path, plan);
     }
 
     @Override
@@ -323,9 +354,22 @@ public class ProjectServiceImpl implements ProjectService {
         }
 
         // project.json 파일 수정
-        Project project = projectRepository.searchProject(dto.getProjectId());
-        project.updateFileMap(fileMap);
-        projectRepository.upsertProject(project);
+        // 같은 경로/이름의 기존 항목만 교체하고 나머지는 유지 (동시에 올라온 다른 파일이 사라지지 않도록)
+        projectRepository.modifyProject(dto.getProjectId(), project -> {
+            Map<String, SettingFile> merged = new HashMap<>();
+            if (project.getFileMap() != null) {
+                project.getFileMap().forEach((key, value) -> {
+                    boolean replaced = fileMap.values().stream()
+                            .anyMatch(file -> Objects.equals(file.getFilePath(), value.getFilePath())
+                                    && Objects.equals(file.getFileName(), value.getFileName()));
+                    if (!replaced) {
+                        merged.put(key, value);
+                    }
+                });
+            }
+            merged.putAll(fileMap);
+            return project.withFileMap(merged);
+        });
 
     }
 
@@ -347,26 +391,138 @@ public class ProjectServiceImpl implements ProjectService {
         fileManager.deleteFile(filePath, dto.getFileName());
 
         // prject.json 파일 수정
-        Map<String, SettingFile> fileMap = getAllFiles(dto.getProjectId());
-        fileMap.remove(dto.getFileId());
-
-        Project project = projectRepository.searchProject(dto.getProjectId());
-        project.updateFileMap(fileMap);
-        projectRepository.upsertProject(project);
+        projectRepository.modifyProject(dto.getProjectId(), project -> {
+            if (project.getFileMap() != null) {
+                project.getFileMap().remove(dto.getFileId());
+            }
+            return project;
+        });
 
 
     }
 
     @Override
     public void stopService(String containerName) {
+        // 등록된 프로젝트의 컨테이너만 제어
+        Project project = projectRepository.searchProjectByServiceId(containerName);
+        if (project == null) {
+            throw new ServiceStopFailedException("등록된 프로젝트의 서비스가 아닙니다.", containerName);
+        }
+        log.info("서비스 정지 : {} (project {})", containerName, project.getProjectId());
         commandService.dockerStop(containerName);
     }
 
     @Override
     public void startService(String containerName) {
+        // 등록된 프로젝트의 컨테이너만 제어
+        Project project = projectRepository.searchProjectByServiceId(containerName);
+        if (project == null) {
+            throw new ServiceStartFailedException("등록된 프로젝트의 서비스가 아닙니다.", containerName);
+        }
+        log.info("서비스 시작 : {} (project {})", containerName, project.getProjectId());
         commandService.dockerStart(containerName);
     }
 
+    // 저장 형식(codec)과 무관하게 json으로 내보내기 (저장소 내부용 version은 제외)
+    @Override
+    public Map<String, ObjectNode> exportProjects() {
+        Map<String, ObjectNode> exported = new HashMap<>();
+        projectRepository.selectProjects().forEach((projectId, project) -> {
+            ObjectNode tree = mapper.valueToTree(project);
+            tree.remove("version");
+            exported.put(projectId, tree);
+        });
+        return exported;
+    }
+
+    // 내보낸 json을 그대로 다시 등록 (같은 projectId가 있으면 덮어쓴다)
+    // 일부만 반영되지 않도록 전체를 먼저 검사하고, 하나라도 잘못되면 아무것도 저장하지 않는다
+    @Override
+    public int importProjects(Map<String, Project> projects) {
+        if (projects == null || projects.isEmpty()) {
+            throw new InvalidProjectDataException("가져올 프로젝트가 없습니다.");
+        }
+        projects.forEach(this::validateImport);
+        projects.values().forEach(projectRepository::upsertProject);
+        return projects.size();
+    }
 
-}
+    private void validateImport(String key, Project project) {
+        if (project == null) {
+            throw new InvalidProjectDataException(key + " : 프로젝트 내용이 없습니다.");
+        }
+        if (project.getProjectId() == null || !project.getProjectId().equals(key)) {
+            throw new InvalidProjectDataException(key + " : projectId(" + project.getProjectId() + ")가 key와 다릅니다.");
+        }
+        if (project.getProjectName() == null || project.getGit() == null || project.getFrontend() == null
+                || project.getBackendMap() == null || project.getDatabaseMap() == null) {
+            throw new InvalidProjectDataException(key + " : projectName, git, backendMap, frontend, databaseMap이 필요합니다.");
+        }
+    }
+
+    // 프로젝트 clone에서 sparse checkout으로 받을 경로 (프로젝트 브랜치를 쓰는 백엔드/프론트엔드 path)
+    private List<String> servicePaths(ProjectGetResponseDto dto) {
+        String projectBranch = dto.getGit().getBranch();
+        List<String> paths = new ArrayList<>();
+        if (dto.getBackendMap() != null) {
+            dto.getBackendMap().values().stream()
+                    .filter(backend -> !usesWorktree(backend.getBranch(), projectBranch))
+                    .forEach(backend -> paths.add(backend.getPath()));
+        }
+        if (dto.getFrontend() != null && !usesWorktree(dto.getFrontend().getBranch(), projectBranch)) {
+            paths.add(dto.getFrontend().getPath());
+        }
+        return paths;
+    }
+
+    /*
+     * 프로젝트 브랜치와 다른 브랜치를 쓰는 서비스마다 worktree(<프로젝트>/.worktrees/<브랜치>)를 만들거나 갱신하고
+     * dto의 서비스 path를 worktree 기준으로 바꾼다 (Dockerfile, docker-compose build context가 worktree를 가리키도록)
+     * dto는 getProject()로 만든 복사본이므로 저장된 프로젝트의 path는 바뀌지 않는다
+     */
+    private void checkoutServiceBranches(ProjectGetResponseDto dto, String path) {
+        String projectBranch = dto.getGit().getBranch();
+        Map<String, List<String>> pathsByBranch = new LinkedHashMap<>();
+        if (dto.getBackendMap() != null) {
+            dto.getBackendMap().values().stream()
+                    .filter(backend -> usesWorktree(backend.getBranch(), projectBranch))
+                    .forEach(backend -> pathsByBranch.computeIfAbsent(backend.getBranch(), branch -> new ArrayList<>())
+                            .add(backend.getPath()));
+        }
+        FrontendGetResponseDto frontend = dto.getFrontend();
+        if (frontend != null && usesWorktree(frontend.getBranch(), projectBranch)) {
+            pathsByBranch.computeIfAbsent(frontend.getBranch(), branch -> new ArrayList<>()).add(frontend.getPath());
+        }
 
+        commandService.removeGitWorktrees(path, pathsByBranch.keySet());
+        pathsByBranch.forEach((branch, paths) -> commandService.gitWorktree(path, branch, paths));
+
+        if (dto.getBackendMap() != null) {
+            dto.getBackendMap().values().stream()
+                    .filter(backend -> usesWorktree(backend.getBranch(), projectBranch))
+                    .forEach(backend -> backend.setPath(worktreePath(backend.getBranch(), backend.getPath())));
+        }
+        if (frontend != null && usesWorktree(frontend.getBranch(), projectBranch)) {
+            frontend.setPath(worktreePath(frontend.getBranch(), frontend.getPath()));
+        }
+    }
+
+    // 작업 단계 표시용 빌드 대상
+    private String buildTargets(ComposeBuildPlan plan) {
+        if (plan.buildServices() == null) {
+            return " (전체 빌드)";
+        }
+        return plan.buildServices().isEmpty() ? " (빌드 없음)" : " (빌드 : " + String.join(", ", plan.buildServices()) + ")";
+    }
+
+    // 브랜치가 지정되어 있고 프로젝트 브랜치와 다르면 worktree 사용
+    private boolean usesWorktree(String serviceBranch, String projectBranch) {
+        return serviceBranch != null && !serviceBranch.isBlank() && !serviceBranch.equals(projectBranch);
+    }
+
+    // "/backend" -> "/.worktrees/<브랜치>/backend"
+    private String worktreePath(String branch, String servicePath) {
+        return "/" + GitCheckoutStrategy.WORKTREE_DIRECTORY + "/" + GitCheckoutStrategy.worktreeName(branch)
+                + (servicePath == null ? "" : servicePath);
+    }
+}
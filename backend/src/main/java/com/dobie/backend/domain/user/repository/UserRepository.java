@@ -1,48 +1,65 @@
 package com.dobie.backend.domain.user.repository;
 
 import com.dobie.backend.domain.user.entity.User;
+import com.dobie.backend.util.file.DataFileWatcher;
+import com.dobie.backend.util.file.DataPath;
+import com.dobie.backend.util.file.SnapshotWriter;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Repository;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
 
 @Repository
 @RequiredArgsConstructor
+@Log4j2
 public class UserRepository {
 
     private final ObjectMapper mapper;
+    private final SnapshotWriter snapshotWriter;
+    private final DataFileWatcher dataFileWatcher;
 
-    private static final String BASE_PATH = new File("").getAbsolutePath();
-    private static final String RESOURCE_PATH = "/src/main/resources";
-    private static final String FILE_NAME = "/data/user.json";
-    private static final String FILE_PATH =
-            Files.exists(Paths.get(BASE_PATH + RESOURCE_PATH + FILE_NAME)) ? BASE_PATH + RESOURCE_PATH + FILE_NAME : BASE_PATH + FILE_NAME;
+    private static final String FILE_PATH = DataPath.resolve("/data/user.json");
 
+    // user.json 내용 (외부에서 수정되면 DataFileWatcher가 다시 읽는다)
+    private volatile User user;
 
-    public User getUserInfo() {
-        try{
-            File file = new File(FILE_PATH);
-            return mapper.readValue(file, User.class);
-        }catch (IOException e ){
-            e.getStackTrace();
-        }
+    @PostConstruct
+    public void loadUser() {
+        user = readUser();
+        dataFileWatcher.watch(Paths.get(FILE_PATH), this::reloadUser);
+    }
 
-        return null;
+    public User getUserInfo() {
+        return user;
     }
 
     public void updateUserInfo(User user){
+        snapshotWriter.write(Paths.get(FILE_PATH),
+                () -> mapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(user));
+        this.user = user;
+    }
+
+    // 읽을 수 없는 상태(편집 중 등)면 기존 내용 유지
+    private void reloadUser() {
+        User reloaded = readUser();
+        if (reloaded != null) {
+            user = reloaded;
+        }
+    }
+
+    private User readUser() {
         try{
             File file = new File(FILE_PATH);
-
-            mapper.writerWithDefaultPrettyPrinter()
-                    .writeValue(file, user);
+            return mapper.readValue(file, User.class);
         }catch (IOException e ){
-            e.getStackTrace();
+            log.error("user.json 읽기 실패 : {}", e.getMessage());
         }
+
+        return null;
     }
 }
@@ -0,0 +1,15 @@
+package com.dobie.backend.exception.exception.Environment;
+
+import com.dobie.backend.exception.format.response.ErrorCode;
+import lombok.Getter;
+
+@Getter
+public class InvalidContainerLogQueryException extends RuntimeException {
+    private final ErrorCode errorCode;
+    private final String errorMessage;
+
+    public InvalidContainerLogQueryException(String errorMessage) {
+        this.errorCode = ErrorCode.INVALID_CONTAINER_LOG_QUERY;
+        this.errorMessage = errorMessage;
+    }
+}
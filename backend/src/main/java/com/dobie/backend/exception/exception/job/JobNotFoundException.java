@@ -0,0 +1,15 @@
+package com.dobie.backend.exception.exception.job;
+
+import com.dobie.backend.exception.format.response.ErrorCode;
+import lombok.Getter;
+
+@Getter
+public class JobNotFoundException extends RuntimeException {
+    private final ErrorCode errorCode;
+    private final String errorMessage;
+
+    public JobNotFoundException(String errorMessage) {
+        this.errorCode = ErrorCode.JOB_NOT_FOUND;
+        this.errorMessage = errorMessage;
+    }
+}
@@ -0,0 +1,15 @@
+package com.dobie.backend.exception.exception.job;
+
+import com.dobie.backend.exception.format.response.ErrorCode;
+import lombok.Getter;
+
+@Getter
+public class JobQueueFullException extends RuntimeException {
+    private final ErrorCode errorCode;
+    private final String errorMessage;
+
+    public JobQueueFullException(String errorMessage) {
+        this.errorCode = ErrorCode.JOB_QUEUE_FULL;
+        this.errorMessage = errorMessage;
+    }
+}
@@ -0,0 +1,15 @@
+package com.dobie.backend.exception.exception.project;
+
+import com.dobie.backend.exception.format.response.ErrorCode;
+import lombok.Getter;
+
+@Getter
+public class InvalidProjectDataException extends RuntimeException {
+    private final ErrorCode errorCode;
+    private final String errorMessage;
+
+    public InvalidProjectDataException(String errorMessage) {
+        this.errorCode = ErrorCode.INVALID_PROJECT_DATA;
+        this.errorMessage = errorMessage;
+    }
+}
@@ -0,0 +1,15 @@
+package com.dobie.backend.exception.exception.project;
+
+import com.dobie.backend.exception.format.response.ErrorCode;
+import lombok.Getter;
+
+@Getter
+public class ProjectUpdateConflictException extends RuntimeException {
+    private final ErrorCode errorCode;
+    private final String errorMessage;
+
+    public ProjectUpdateConflictException(String errorMessage) {
+        this.errorCode = ErrorCode.PROJECT_UPDATE_CONFLICT;
+        this.errorMessage = errorMessage;
+    }
+}
@@ -8,6 +8,15 @@ import org.springframework.http.HttpStatus;
 @RequiredArgsConstructor
 public enum ErrorCode {
 
+    /* 프로젝트 */
+    PROJECT_NOT_FOUND(HttpStatus.NOT_FOUND, "프로젝트를 찾을 수 없습니다."),
+    PROJECT_UPDATE_CONFLICT(HttpStatus.CONFLICT, "다른 요청과 동시에 프로젝트를 수정하여 반영하지 못했습니다. 다시 시도해주세요."),
+    INVALID_PROJECT_DATA(HttpStatus.BAD_REQUEST, "가져올 프로젝트 데이터가 올바르지 않습니다."),
+
+    /* 작업(Job) */
+    JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "작업을 찾을 수 없습니다."),
+    JOB_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "대기 중인 작업이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+
     /* git */
     GIT_INFO_NOT_FOUND(HttpStatus.NOT_FOUND, "git url 정보가 없습니다."),
     GIT_CLONE_FAILED(HttpStatus.BAD_REQUEST, "사용자 프로젝트의 Git clone을 실패했습니다."),
@@ -59,6 +68,7 @@ public enum ErrorCode {
     DOCKER_FILE_CONTENT_NOT_FOUND(HttpStatus.NOT_FOUND, "도커 파일 경로 조회는 성공했지만, 도커 파일 내용 조회 과정에서 오류가 발생했습니다."),
     DOCKER_COMPOSE_FILE_CONTENT_NOT_FOUND(HttpStatus.NOT_FOUND, "도커컴포즈 파일 경로 조회는 성공했지만, 도커컴포즈 파일 내용 조회 과정에서 오류가 발생했습니다."),
     CONTAINER_LOG_NOT_FOUND(HttpStatus.NOT_FOUND, "컨테이너 로그를 가져올수 없습니다."),
+    INVALID_CONTAINER_LOG_QUERY(HttpStatus.BAD_REQUEST, "컨테이너 로그 조회 조건이 올바르지 않습니다."),
     ANALYZE_PROJECT_CONTAINER_ERROR(HttpStatus.NOT_FOUND, "프로젝트 내부 아이디 분석중 오류가 발생했습니다."),
     DOCKER_CONTAINER_FRAMEWORK_ERROR(HttpStatus.NOT_FOUND, "프로젝트 내부 프레임워크 분석중 오류가 발생했습니다. / checkDBContainerStatus API 오류"),
 
@@ -20,9 +20,20 @@ public enum ResponseCode {
     SERVICE_STOP_SUCCESS(HttpStatus.OK, "서비스가 성공적으로 정지되었습니다."),
     SERVICE_START_SUCCESS(HttpStatus.OK, "서비스가 성공적으로 실행되었습니다."),
     PROJECT_REBUILD_AND_START_SUCCESS(HttpStatus.OK, "WebHook 요청이 성공적으로 수행되었습니다."),
+    PROJECT_DATA_EXPORTED(HttpStatus.OK, "프로젝트 데이터를 성공적으로 내보냈습니다."),
+    PROJECT_DATA_IMPORTED(HttpStatus.OK, "프로젝트 데이터를 성공적으로 가져왔습니다."),
+
+    /* 작업(Job) */
+    PROJECT_BUILD_SUBMITTED(HttpStatus.ACCEPTED, "프로젝트 빌드 작업이 등록되었습니다."),
+    PROJECT_RUN_SUBMITTED(HttpStatus.ACCEPTED, "프로젝트 실행 작업이 등록되었습니다."),
+    PROJECT_REBUILD_AND_START_SUBMITTED(HttpStatus.ACCEPTED, "WebHook 재시작 작업이 등록되었습니다."),
+    JOB_FETCHED(HttpStatus.OK, "작업 상태가 성공적으로 조회되었습니다."),
+    JOB_LIST_FETCHED(HttpStatus.OK, "작업 목록이 성공적으로 조회되었습니다."),
+    JOB_CANCEL_REQUESTED(HttpStatus.OK, "작업 취소가 요청되었습니다."),
 
     /* 컨테이너(container) */
     CONTAINER_STATUS_SUCCESS(HttpStatus.OK, "설치된 컨테이너 실행 상태 분석이 완료되었습니다."),
+    CONTAINER_STATUS_BULK_SUCCESS(HttpStatus.OK, "프로젝트별 컨테이너 실행 상태 일괄 분석이 완료되었습니다."),
     /* 도커파일(Dockerfile) */
     DOCKER_FILE_INSTALL_SUCCESS(HttpStatus.OK, "도커파일이 성공적으로 설치되었습니다."),
     /* 파일 내용 조회 */
@@ -12,6 +12,11 @@ import com.dobie.backend.exception.exception.git.GitCheckoutFailedException;
 import com.dobie.backend.exception.exception.git.GitCloneFailedException;
 import com.dobie.backend.exception.exception.git.GitInfoNotFoundException;
 import com.dobie.backend.exception.exception.git.GitPullFailedException;
+import com.dobie.backend.exception.exception.job.JobNotFoundException;
+import com.dobie.backend.exception.exception.job.JobQueueFullException;
+import com.dobie.backend.exception.exception.project.InvalidProjectDataException;
+import com.dobie.backend.exception.exception.project.ProjectNotFoundException;
+import com.dobie.backend.exception.exception.project.ProjectUpdateConflictException;
 
 import com.dobie.backend.exception.format.code.ApiResponse;
 import lombok.RequiredArgsConstructor;
@@ -145,6 +150,43 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return response.error(e.getErrorCode());
     }
 
+    /* 프로젝트 */
+    @ExceptionHandler(ProjectNotFoundException.class)
+    protected ResponseEntity<?> handle(ProjectNotFoundException e) {
+        log.error("ProjectNotFoundException = {}", e.getErrorCode().getMessage());
+        log.error("Error Message = {}", e.getErrorMessage());
+        return response.error(e.getErrorCode());
+    }
+
+    @ExceptionHandler(ProjectUpdateConflictException.class)
+    protected ResponseEntity<?> handle(ProjectUpdateConflictException e) {
+        log.error("ProjectUpdateConflictException = {}", e.getErrorCode().getMessage());
+        log.error("Error Message = {}", e.getErrorMessage());
+        return response.error(e.getErrorCode());
+    }
+
+    @ExceptionHandler(InvalidProjectDataException.class)
+    protected ResponseEntity<?> handle(InvalidProjectDataException e) {
+        log.error("InvalidProjectDataException = {}", e.getErrorCode().getMessage());
+        log.error("Error Message = {}", e.getErrorMessage());
+        return response.error(e.getErrorCode());
+    }
+
+    /* 작업 */
+    @ExceptionHandler(JobNotFoundException.class)
+    protected ResponseEntity<?> handle(JobNotFoundException e) {
+        log.error("JobNotFoundException = {}", e.getErrorCode().getMessage());
+        log.error("Error Message = {}", e.getErrorMessage());
+        return response.error(e.getErrorCode());
+    }
+
+    @ExceptionHandler(JobQueueFullException.class)
+    protected ResponseEntity<?> handle(JobQueueFullException e) {
+        log.error("JobQueueFullException = {}", e.getErrorCode().getMessage());
+        log.error("Error Message = {}", e.getErrorMessage());
+        return response.error(e.getErrorCode());
+    }
+
     /* 파일 */
     @ExceptionHandler(SaveFileFailedException.class)
     protected ResponseEntity<?> handle(SaveFileFailedException e) {
@@ -299,6 +341,13 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return response.error(e.getErrorCode());
     }
 
+    @ExceptionHandler(InvalidContainerLogQueryException.class)
+    protected ResponseEntity<?> handle(InvalidContainerLogQueryException e) {
+        log.error("InvalidContainerLogQueryException = {}", e.getErrorCode().getMessage());
+        log.error("Error Message = {}", e.getErrorMessage());
+        return response.error(e.getErrorCode());
+    }
+
     @ExceptionHandler(AnalyzeProjectContainerErrorException.class)
     protected ResponseEntity<?> handle(AnalyzeProjectContainerErrorException e) {
         log.error("AnalyzeProjectContainerErrorException = {}", e.getErrorCode().getMessage());
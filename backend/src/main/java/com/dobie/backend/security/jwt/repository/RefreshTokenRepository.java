@@ -1,74 +1,120 @@
 package com.dobie.backend.security.jwt.repository;
 
 import com.dobie.backend.security.jwt.entity.RefreshToken;
+import com.dobie.backend.util.file.DataFileWatcher;
+import com.dobie.backend.util.file.DataPath;
+import com.dobie.backend.util.file.SnapshotWriter;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Repository;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Optional;
 @Repository
 @RequiredArgsConstructor
+@Log4j2
 public class RefreshTokenRepository {
     private final ObjectMapper objectMapper;
+    private final SnapshotWriter snapshotWriter;
+    private final DataFileWatcher dataFileWatcher;
 
-    private static final String BASE_PATH = new File("").getAbsolutePath();
-    private static final String RESOURCE_PATH = "/src/main/resources";
-    private static final String FILE_NAME = "/data/refreshToken.json";
-    private static final String FILE_PATH =
-            Files.exists(Paths.get(BASE_PATH + RESOURCE_PATH + FILE_NAME)) ? BASE_PATH + RESOURCE_PATH + FILE_NAME : BASE_PATH + FILE_NAME;
+    private static final String FILE_PATH = DataPath.resolve("/data/refreshToken.json");
+
+    // refreshToken.json 내용 그대로 보관 (외부에서 수정되면 DataFileWatcher가 다시 읽는다)
+    private volatile JsonNode contents;
+
+    @PostConstruct
+    public void loadTokens() {
+        contents = readContents();
+        dataFileWatcher.watch(Paths.get(FILE_PATH), this::reloadTokens);
+    }
 
     public Optional<RefreshToken> findByRefreshToken(String refreshToken) {
         try {
-            File file = new File(FILE_PATH);
-            List<RefreshToken> tokens = objectMapper.readValue(file, new TypeReference<List<RefreshToken>>(){});
+            List<RefreshToken> tokens = readTokens();
             return tokens.stream().filter(t -> refreshToken.equals(t.getRefreshToken())).findFirst();
         } catch (IOException e) {
-            e.getStackTrace();
+            log.error("refreshToken.json 읽기 실패 : {}", e.getMessage());
             return Optional.empty();
         }
     }
 
     public void save(RefreshToken refreshToken) {
         try {
-            File file = new File(FILE_PATH);
-            List<RefreshToken> tokens = objectMapper.readValue(file, new TypeReference<List<RefreshToken>>(){});
+            List<RefreshToken> tokens = readTokens();
             tokens.add(refreshToken);
-            objectMapper.writeValue(file, tokens);
+            writeTokens(tokens);
         } catch (IOException e) {
-            e.getStackTrace();
+            log.error("refreshToken.json 읽기 실패 : {}", e.getMessage());
         }
     }
 
     public void updateAccessToken(String accessToken){
         try {
-            File file = new File(FILE_PATH);
-            RefreshToken token = objectMapper.readValue(file, RefreshToken.class);
+            RefreshToken token = objectMapper.treeToValue(currentContents(), RefreshToken.class);
             RefreshToken newToken = RefreshToken.builder()
                     .username(token.getUsername())
                     .accessToken(accessToken)
                     .refreshToken(token.getRefreshToken())
                     .build();
-            objectMapper.writerWithDefaultPrettyPrinter()
-                    .writeValue(file, newToken);
+            snapshotWriter.write(Paths.get(FILE_PATH),
+                    () -> objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(newToken));
+            contents = objectMapper.valueToTree(newToken);
         }catch (IOException e){
-            e.getStackTrace();
+            log.error("refreshToken.json 읽기 실패 : {}", e.getMessage());
         }
     }
 
     public void delete(RefreshToken refreshToken) {
         try {
-            File file = new File(FILE_PATH);
-            List<RefreshToken> tokens = objectMapper.readValue(file, new TypeReference<List<RefreshToken>>(){});
+            List<RefreshToken> tokens = readTokens();
             tokens.removeIf(t -> t.getRefreshToken().equals(refreshToken.getRefreshToken()));
-            objectMapper.writeValue(file, tokens);
+            writeTokens(tokens);
+        } catch (IOException e) {
+            log.error("refreshToken.json 읽기 실패 : {}", e.getMessage());
+        }
+    }
+
+    private void writeTokens(List<RefreshToken> tokens) {
+        snapshotWriter.write(Paths.get(FILE_PATH), () -> objectMapper.writeValueAsBytes(tokens));
+        contents = objectMapper.valueToTree(tokens);
+    }
+
+    // 호출할 때마다 새 목록으로 변환하므로 수정해도 보관 중인 내용에는 영향 없음
+    private List<RefreshToken> readTokens() throws IOException {
+        return objectMapper.readerFor(new TypeReference<List<RefreshToken>>(){}).readValue(currentContents());
+    }
+
+    private JsonNode currentContents() throws IOException {
+        JsonNode current = contents;
+        if (current == null) {
+            throw new IOException(FILE_PATH + " 파일을 읽을 수 없습니다.");
+        }
+        return current;
+    }
+
+    // 읽을 수 없는 상태(편집 중 등)면 기존 내용 유지
+    private void reloadTokens() {
+        JsonNode reloaded = readContents();
+        if (reloaded != null) {
+            contents = reloaded;
+        }
+    }
+
+    private JsonNode readContents() {
+        try {
+            File file = new File(FILE_PATH);
+            return objectMapper.readTree(file);
         } catch (IOException e) {
-            e.getStackTrace();
+            log.error("refreshToken.json 읽기 실패 : {}", e.getMessage());
+            return null;
         }
     }
 }
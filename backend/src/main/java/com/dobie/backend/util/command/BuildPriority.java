@@ -0,0 +1,27 @@
+package com.dobie.backend.util.command;
+
+/*
+ * 빌드 슬롯 대기 순서 (앞에 선언된 것이 먼저)
+ * 현재 스레드에 bind된 값을 BuildScheduler가 사용하고, 없으면 INTERACTIVE
+ */
+public enum BuildPriority {
+    // 사용자가 화면에서 요청한 빌드/실행
+    INTERACTIVE,
+    // webhook 재빌드 등 백그라운드 요청
+    BACKGROUND;
+
+    private static final ThreadLocal<BuildPriority> CURRENT = new ThreadLocal<>();
+
+    public static void bind(BuildPriority priority) {
+        CURRENT.set(priority);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    static BuildPriority current() {
+        BuildPriority priority = CURRENT.get();
+        return priority == null ? INTERACTIVE : priority;
+    }
+}
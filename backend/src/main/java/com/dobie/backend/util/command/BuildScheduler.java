@@ -0,0 +1,121 @@
+package com.dobie.backend.util.command;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * 호스트 전체에서 동시에 실행되는 이미지 빌드(docker build, compose up --build) 수 제한
+ *   - 슬롯(dobie.build.max-concurrency)이 모두 사용 중이면 대기
+ *   - 대기 순서는 BuildPriority 순, 같은 우선순위는 먼저 온 순서
+ *   - 이미 다른 빌드가 실행 중일 때는 호스트 부하(/proc)가 기준 이하일 때만 추가로 시작한다
+ *     (CPU당 1분 load가 max-load-per-cpu 초과이거나 남은 메모리 비율이 min-available-memory-ratio 미만이면 대기)
+ * 실행 중인 빌드가 하나도 없으면 부하와 상관없이 시작하므로 빌드가 멈추지는 않는다
+ */
+@Component
+@Log4j2
+public class BuildScheduler {
+
+    private final int maxConcurrency;
+    private final double maxLoadPerCpu;
+    private final double minAvailableMemoryRatio;
+    private final long admissionPollMillis;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>(
+            Comparator.comparing(Waiter::priority).thenComparingLong(Waiter::sequence));
+    private final AtomicLong sequence = new AtomicLong();
+    private int running;
+
+    public BuildScheduler(@Value("${dobie.build.max-concurrency:2}") int maxConcurrency,
+                          @Value("${dobie.build.max-load-per-cpu:1.5}") double maxLoadPerCpu,
+                          @Value("${dobie.build.min-available-memory-ratio:0.15}") double minAvailableMemoryRatio,
+                          @Value("${dobie.build.admission-poll-millis:2000}") long admissionPollMillis) {
+        this.maxConcurrency = maxConcurrency;
+        this.maxLoadPerCpu = maxLoadPerCpu;
+        this.minAvailableMemoryRatio = minAvailableMemoryRatio;
+        this.admissionPollMillis = admissionPollMillis;
+    }
+
+    // 슬롯을 얻을 때까지 기다린 뒤 빌드 실행, 대기 중 interrupt(작업 취소)되면 CancellationException
+    public <T> T run(String name, BuildTask<T> task) {
+        acquire(name);
+        try {
+            return task.run();
+        } finally {
+            release();
+        }
+    }
+
+    @FunctionalInterface
+    public interface BuildTask<T> {
+        T run();
+    }
+
+    private void acquire(String name) {
+        Waiter waiter = new Waiter(BuildPriority.current(), sequence.incrementAndGet());
+        lock.lock();
+        try {
+            waiters.add(waiter);
+            boolean logged = false;
+            while (!admit(waiter)) {
+                if (!logged) {
+                    log.info("빌드 대기 : {} ({}, 실행 중 {}/{}, 대기 {})",
+                            name, waiter.priority(), running, maxConcurrency, waiters.size());
+                    logged = true;
+                }
+                // 부하는 알림 없이 바뀌므로 주기적으로 다시 확인
+                changed.await(admissionPollMillis, TimeUnit.MILLISECONDS);
+            }
+            waiters.remove(waiter);
+            running++;
+            // 다음 대기자도 바로 들어갈 수 있는지 확인하도록
+            changed.signalAll();
+        } catch (InterruptedException e) {
+            waiters.remove(waiter);
+            changed.signalAll();
+            Thread.currentThread().interrupt();
+            throw new CancellationException("빌드 대기 중 취소되었습니다 : " + name);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            running--;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lock을 잡은 상태에서 호출, 맨 앞 대기자만 들어갈 수 있다
+    private boolean admit(Waiter waiter) {
+        if (waiters.peek() != waiter || running >= maxConcurrency) {
+            return false;
+        }
+        if (running == 0) {
+            return true;
+        }
+
+        HostLoad load = HostLoad.read();
+        if (load == null) {
+            return true;
+        }
+        return load.loadPerCpu() <= maxLoadPerCpu && load.availableMemoryRatio() >= minAvailableMemoryRatio;
+    }
+
+    private record Waiter(BuildPriority priority, long sequence) {
+    }
+}
@@ -0,0 +1,212 @@
+package com.dobie.backend.util.command;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.exec.CommandLine;
+import org.apache.commons.exec.DefaultExecutor;
+import org.apache.commons.exec.ExecuteException;
+import org.apache.commons.exec.PumpStreamHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/*
+ * 외부 명령어(git, docker 등) 실행기
+ * 실행할 때마다 DefaultExecutor, 출력 버퍼를 새로 만들기 때문에 여러 프로젝트를 동시에 처리해도 출력이 섞이지 않는다
+ * 명령어 종류(CommandType)마다 worker pool이 따로 있어서 짧은 git/shell 명령어가 오래 걸리는 빌드 뒤에서 기다리지 않는다
+ *   - 종류별 동시 실행 수(dobie.command.pool.*-threads)를 넘으면 큐(queue-capacity)에서 대기하고,
+ *     큐도 가득 차면 기다리지 않고 바로 실패 결과(RejectedExecutionException)를 반환한다
+ * 출력은 줄 단위로 처리하며 마지막 output-tail-lines 줄만 결과로 보관한다
+ * 호출한 스레드에 CommandOutput listener가 있으면 출력이 생길 때마다 바로 전달한다 (빌드 로그 스트리밍)
+ * 명령어 종류(CommandType)별 제한 시간이 지나거나 호출한 스레드가 interrupt(작업 취소)되면 자식 프로세스까지 모두 종료한다
+ *   - 지표 : dobie.command.duration(종류/결과별 실행 시간), dobie.command.timeouts, dobie.command.running,
+ *           dobie.command.stuck(stuck-threshold-seconds 넘게 실행 중인 프로세스 수), dobie.command.rejected
+ */
+@Component
+@Log4j2
+public class CommandExecutor {
+
+    private final Map<CommandType, ExecutorService> workers = new EnumMap<>(CommandType.class);
+    private final int outputTailLines;
+    private final Map<CommandType, Long> timeoutSeconds = new EnumMap<>(CommandType.class);
+    private final long stuckThresholdNanos;
+
+    private final MeterRegistry meterRegistry;
+    // 실행 중인 프로세스 (stuck 지표 계산용)
+    private final Set<RunningCommand> running = ConcurrentHashMap.newKeySet();
+
+    public CommandExecutor(@Value("${dobie.command.pool.git-threads:4}") int gitThreads,
+                           @Value("${dobie.command.pool.build-threads:4}") int buildThreads,
+                           @Value("${dobie.command.pool.shell-threads:4}") int shellThreads,
+                           @Value("${dobie.command.pool.queue-capacity:50}") int queueCapacity,
+                           @Value("${dobie.command.output-tail-lines:200}") int outputTailLines,
+                           @Value("${dobie.command.timeout.git-seconds:600}") long gitTimeoutSeconds,
+                           @Value("${dobie.command.timeout.build-seconds:1800}") long buildTimeoutSeconds,
+                           @Value("${dobie.command.timeout.shell-seconds:120}") long shellTimeoutSeconds,
+                           @Value("${dobie.command.stuck-threshold-seconds:300}") long stuckThresholdSeconds,
+                           MeterRegistry meterRegistry) {
+        this.outputTailLines = outputTailLines;
+        this.timeoutSeconds.put(CommandType.GIT, gitTimeoutSeconds);
+        this.timeoutSeconds.put(CommandType.BUILD, buildTimeoutSeconds);
+        this.timeoutSeconds.put(CommandType.SHELL, shellTimeoutSeconds);
+        this.stuckThresholdNanos = TimeUnit.SECONDS.toNanos(stuckThresholdSeconds);
+        this.meterRegistry = meterRegistry;
+
+        this.workers.put(CommandType.GIT, createPool(CommandType.GIT, gitThreads, queueCapacity));
+        this.workers.put(CommandType.BUILD, createPool(CommandType.BUILD, buildThreads, queueCapacity));
+        this.workers.put(CommandType.SHELL, createPool(CommandType.SHELL, shellThreads, queueCapacity));
+
+        Gauge.builder("dobie.command.running", running, Set::size)
+                .description("실행 중인 외부 명령어 프로세스 수")
+                .register(meterRegistry);
+        Gauge.builder("dobie.command.stuck", this, CommandExecutor::countStuck)
+                .description("stuck-threshold-seconds 넘게 실행 중인 외부 명령어 프로세스 수")
+                .register(meterRegistry);
+    }
+
+    // 실행이 끝날 때까지 기다린다
+    public CommandResult execute(CommandType type, String command) {
+        return execute(type, CommandLine.parse(command), null);
+    }
+
+    public CommandResult execute(CommandType type, String command, File workingDirectory) {
+        return execute(type, CommandLine.parse(command), workingDirectory);
+    }
+
+    public CommandResult execute(CommandType type, CommandLine commandLine, File workingDirectory) {
+        ProcessTreeWatchdog watchdog = new ProcessTreeWatchdog(TimeUnit.SECONDS.toMillis(timeoutSeconds.get(type)));
+        CompletableFuture<CommandResult> future = submit(type, commandLine, workingDirectory, watchdog);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            // 작업 취소, 기다리던 프로세스도 함께 종료
+            Thread.currentThread().interrupt();
+            watchdog.kill();
+            future.cancel(true);
+            return new CommandResult(-1, "", e);
+        } catch (ExecutionException e) {
+            Exception cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            return new CommandResult(-1, "", cause);
+        }
+    }
+
+    // 대기 큐가 가득 차면 RejectedExecutionException으로 실패한 future
+    public CompletableFuture<CommandResult> submit(CommandType type, CommandLine commandLine, File workingDirectory) {
+        ProcessTreeWatchdog watchdog = new ProcessTreeWatchdog(TimeUnit.SECONDS.toMillis(timeoutSeconds.get(type)));
+        return submit(type, commandLine, workingDirectory, watchdog);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.values().forEach(ExecutorService::shutdown);
+    }
+
+    private CompletableFuture<CommandResult> submit(CommandType type, CommandLine commandLine, File workingDirectory,
+                                                    ProcessTreeWatchdog watchdog) {
+        Consumer<String> listener = CommandOutput.current();
+        try {
+            return CompletableFuture.supplyAsync(
+                    () -> run(type, commandLine, workingDirectory, listener, watchdog), workers.get(type));
+        } catch (RejectedExecutionException e) {
+            log.warn("명령어 대기열이 가득 차서 실행하지 않습니다 : {} ({})", commandLine.getExecutable(), type);
+            Counter.builder("dobie.command.rejected")
+                    .tag("type", type.name())
+                    .register(meterRegistry)
+                    .increment();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static ExecutorService createPool(CommandType type, int threads, int queueCapacity) {
+        AtomicInteger threadCount = new AtomicInteger();
+        String prefix = "command-" + type.name().toLowerCase() + "-";
+        return new ThreadPoolExecutor(threads, threads,
+                60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread thread = new Thread(r, prefix + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    private CommandResult run(CommandType type, CommandLine commandLine, File workingDirectory,
+                              Consumer<String> listener, ProcessTreeWatchdog watchdog) {
+        DefaultExecutor executor = new DefaultExecutor();
+        CommandOutputCapture output = new CommandOutputCapture(outputTailLines, listener);
+        executor.setStreamHandler(new PumpStreamHandler(output.getStdout(), output.getStderr()));
+        executor.setWatchdog(watchdog);
+        if (workingDirectory != null) {
+            executor.setWorkingDirectory(workingDirectory);
+        }
+
+        RunningCommand command = new RunningCommand();
+        running.add(command);
+        CommandResult result;
+        try {
+            int exitCode = executor.execute(commandLine);
+            output.close();
+            result = new CommandResult(exitCode, output.getOutput(), null);
+        } catch (ExecuteException e) {
+            output.close();
+            result = new CommandResult(e.getExitValue(), output.getOutput(), timeoutOr(watchdog, type, commandLine, e));
+        } catch (Exception e) {
+            output.close();
+            log.error("명령어 실행 실패 : {} ({})", commandLine.getExecutable(), e.getMessage());
+            result = new CommandResult(-1, output.getOutput(), timeoutOr(watchdog, type, commandLine, e));
+        } finally {
+            running.remove(command);
+        }
+
+        String outcome = watchdog.isTimedOut() ? "timeout" : result.isSuccess() ? "success" : "failure";
+        Timer.builder("dobie.command.duration")
+                .tag("type", type.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - command.startedAt, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    // 제한 시간 초과로 종료된 경우 원인을 시간 초과로 바꾼다
+    private Exception timeoutOr(ProcessTreeWatchdog watchdog, CommandType type, CommandLine commandLine, Exception e) {
+        if (!watchdog.isTimedOut()) {
+            return e;
+        }
+        long seconds = timeoutSeconds.get(type);
+        log.warn("명령어 실행 시간 초과로 종료 : {} ({}, {}초)", commandLine.getExecutable(), type, seconds);
+        Counter.builder("dobie.command.timeouts")
+                .tag("type", type.name())
+                .register(meterRegistry)
+                .increment();
+        return new TimeoutException("명령어 실행 시간 초과 (" + seconds + "초) : " + commandLine.getExecutable());
+    }
+
+    private double countStuck() {
+        long now = System.nanoTime();
+        return running.stream()
+                .filter(command -> now - command.startedAt > stuckThresholdNanos)
+                .count();
+    }
+
+    // 같은 명령어가 동시에 여러 번 실행될 수 있으므로 객체 동일성으로 구분
+    private static final class RunningCommand {
+        private final long startedAt = System.nanoTime();
+    }
+}
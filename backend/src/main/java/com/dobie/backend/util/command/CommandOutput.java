@@ -0,0 +1,27 @@
+package com.dobie.backend.util.command;
+
+import java.util.function.Consumer;
+
+/*
+ * 현재 스레드에서 실행하는 명령어의 출력을 줄 단위로 받을 listener (빌드 로그 실시간 전달용)
+ * CommandExecutor가 호출한 스레드에서 꺼내서 실제 실행 스레드로 넘긴다
+ */
+public class CommandOutput {
+
+    private static final ThreadLocal<Consumer<String>> LISTENER = new ThreadLocal<>();
+
+    private CommandOutput() {
+    }
+
+    public static void bind(Consumer<String> listener) {
+        LISTENER.set(listener);
+    }
+
+    public static void clear() {
+        LISTENER.remove();
+    }
+
+    static Consumer<String> current() {
+        return LISTENER.get();
+    }
+}
@@ -0,0 +1,76 @@
+package com.dobie.backend.util.command;
+
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.exec.LogOutputStream;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+/*
+ * 명령어 출력 수집 (stdout, stderr 각각 LogOutputStream으로 받아서 줄 단위로 처리)
+ * 마지막 maxLines 줄만 보관하므로 출력이 아무리 길어도 메모리 사용량이 일정하다
+ * listener가 있으면 줄이 끝날 때마다 바로 전달한다
+ */
+@Log4j2
+class CommandOutputCapture {
+
+    private final int maxLines;
+    private final Consumer<String> listener;
+    private final Deque<String> tail = new ArrayDeque<>();
+    private boolean truncated;
+
+    private final LogOutputStream stdout = new LineStream();
+    private final LogOutputStream stderr = new LineStream();
+
+    CommandOutputCapture(int maxLines, Consumer<String> listener) {
+        this.maxLines = maxLines;
+        this.listener = listener;
+    }
+
+    LogOutputStream getStdout() {
+        return stdout;
+    }
+
+    LogOutputStream getStderr() {
+        return stderr;
+    }
+
+    // 개행 없이 끝난 마지막 줄까지 처리
+    void close() {
+        try {
+            stdout.close();
+            stderr.close();
+        } catch (Exception e) {
+            log.debug("명령어 출력 스트림 닫기 실패 : {}", e.getMessage());
+        }
+    }
+
+    synchronized String getOutput() {
+        String output = String.join("\n", tail).trim();
+        return truncated ? "...(앞부분 생략)\n" + output : output;
+    }
+
+    private synchronized void line(String line) {
+        if (tail.size() == maxLines) {
+            tail.removeFirst();
+            truncated = true;
+        }
+        tail.addLast(line);
+
+        if (listener != null) {
+            try {
+                listener.accept(line);
+            } catch (RuntimeException e) {
+                log.debug("명령어 출력 전달 실패 : {}", e.getMessage());
+            }
+        }
+    }
+
+    private class LineStream extends LogOutputStream {
+        @Override
+        protected void processLine(String line, int logLevel) {
+            line(line);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.dobie.backend.util.command;
+
+import lombok.Getter;
+
+// 명령어 1회 실행 결과 (호출마다 별도 출력 버퍼를 사용하므로 다른 실행의 출력이 섞이지 않는다)
+@Getter
+public class CommandResult {
+
+    private final int exitCode;
+    // stdout + stderr
+    private final String output;
+    // 실패 원인 (성공이면 null)
+    private final Exception cause;
+
+    CommandResult(int exitCode, String output, Exception cause) {
+        this.exitCode = exitCode;
+        this.output = output;
+        this.cause = cause;
+    }
+
+    public boolean isSuccess() {
+        return cause == null;
+    }
+
+    public String getErrorMessage() {
+        return cause == null ? null : cause.getMessage();
+    }
+}
@@ -1,22 +1,28 @@
 package com.dobie.backend.util.command;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Set;
 
 public interface CommandService {
 
     boolean checkIsCloned(String path);
 
-    void gitClone(String repositoryURL, String accessToken);
+    void gitClone(String repositoryURL, String accessToken, String path, String branch, List<String> sparsePaths);
 
     void gitCheckout(String path, String branchName);
 
-    void gitPull(String path);
+    void gitPull(String repositoryURL, String accessToken, String path, String branch, List<String> sparsePaths);
+
+    void gitWorktree(String path, String branch, List<String> sparsePaths);
+
+    void removeGitWorktrees(String path, Set<String> keepBranches);
 
     void build(String path, String projectName);
 
     void run(String path, int port1, int port2);
 
-    void dockerComposeUp(String path);
+    void dockerComposeUp(String path, Set<String> buildServices);
 
     void dockerComposeDown(String path);
 
@@ -5,11 +5,11 @@ import com.dobie.backend.exception.exception.file.DeleteFileFailedException;
 import com.dobie.backend.exception.exception.git.GitCheckoutFailedException;
 import com.dobie.backend.exception.exception.git.GitCloneFailedException;
 import com.dobie.backend.exception.exception.git.GitPullFailedException;
+import com.dobie.backend.util.docker.DockerEngineService;
+import com.github.dockerjava.api.exception.DockerException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.exec.CommandLine;
-import org.apache.commons.exec.DefaultExecutor;
-import org.apache.commons.exec.PumpStreamHandler;
 import org.springframework.stereotype.Service;
 
 import java.io.*;
@@ -17,18 +17,28 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.Timer;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class CommandServiceImpl implements CommandService {
 
-    DefaultExecutor executor = new DefaultExecutor();
-    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-    PumpStreamHandler streamHandler = new PumpStreamHandler(outputStream);
-    StringBuilder sb;
+    // 호출마다 별도 프로세스/출력 버퍼로 실행 (동시에 여러 프로젝트를 처리해도 안전)
+    private final CommandExecutor commandExecutor;
+    // 컨테이너 단위 작업은 docker CLI 대신 Engine API로 처리
+    private final DockerEngineService dockerEngineService;
+    // 이미지 빌드는 호스트 부하에 따라 동시 실행 수 제한
+    private final BuildScheduler buildScheduler;
+    // git clone/pull 방식 (shallow, partial, sparse, mirror)
+    private final GitCheckoutStrategy gitCheckoutStrategy;
+    // 이미지를 지울 때 빌드 기록도 같이 삭제
+    private final ComposeBuildPlanner composeBuildPlanner;
 
     // 이미 깃 클론이 되있는지 아닌지 체크하는 메서드
     // true이면 이미 clone
@@ -37,236 +47,254 @@ public class CommandServiceImpl implements CommandService {
     public boolean checkIsCloned(String path) {
         File directory = new File(path);
         if (directory.exists()) {
-            System.out.println("directory exists");
+            log.debug("directory exists : {}", path);
             return true;
         } else {
-            System.out.println("directory not exists");
+            log.debug("directory not exists : {}", path);
             return false;
         }
     }
 
-    // 깃 클론
+    // 깃 클론 (방식은 GitCheckoutStrategy 설정에 따름)
+    // sparsePaths : sparse checkout 시 받을 경로 (프로젝트 설정의 백엔드/프론트엔드 path)
     @Override
-    public void gitClone(String repositoryURL, String accessToken) {
-        StringBuilder sb = new StringBuilder();
+    public void gitClone(String repositoryURL, String accessToken, String path, String branch, List<String> sparsePaths) {
         // URL에 액세스 토큰을 포함하여 인증 정보 제공
-        String authUrl = repositoryURL.replace("https://", "https://oauth2:" + accessToken + "@");
-        sb.append("git clone ").append(authUrl);
-        CommandLine commandLine = CommandLine.parse(sb.toString());
-
-        DefaultExecutor executor = new DefaultExecutor();
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        PumpStreamHandler streamHandler = new PumpStreamHandler(outputStream);
-        executor.setStreamHandler(streamHandler);
+        String authUrl = toAuthUrl(repositoryURL, accessToken);
+        Path mirror = updateMirror(repositoryURL, authUrl);
 
-        try {
-            executor.execute(commandLine);
-            String result = outputStream.toString().trim(); // 명령어 실행 결과를 문자열로 받음
-            System.out.println("git clone success : " + result);
-        } catch (Exception e) {
-            String result = outputStream.toString().trim();
-            throw new GitCloneFailedException(e.getMessage(), result);
+        CommandResult result = commandExecutor.execute(CommandType.GIT,
+                gitCheckoutStrategy.cloneCommand(authUrl, path, branch, mirror), null);
+        if (!result.isSuccess()) {
+            throw new GitCloneFailedException(result.getErrorMessage(), result.getOutput());
         }
+        applySparseCheckout(path, sparsePaths);
+        log.info("git clone success : {}", path);
     }
 
     @Override
     public void gitCheckout(String path, String branchName) {
-        sb = new StringBuilder();
+        StringBuilder sb = new StringBuilder();
         sb.append("git -C ").append(path).append(" checkout ").append(branchName);
-        CommandLine commandLine = CommandLine.parse(sb.toString());
-        executor.setStreamHandler(streamHandler);
-        try {
-            executor.execute(commandLine);
-            String result = outputStream.toString().trim();
-            System.out.println("git checkout success : " + result);
-        } catch (Exception e) {
-            String result = outputStream.toString().trim();
-            throw new GitCheckoutFailedException(e.getMessage(), result);
+
+        CommandResult result = commandExecutor.execute(CommandType.GIT, sb.toString());
+        if (!result.isSuccess()) {
+            throw new GitCheckoutFailedException(result.getErrorMessage(), result.getOutput());
         }
+        log.info("git checkout success : {} ({})", path, branchName);
     }
 
     // git pull
     @Override
-    public void gitPull(String path) {
+    public void gitPull(String repositoryURL, String accessToken, String path, String branch, List<String> sparsePaths) {
+        // mirror를 먼저 갱신해두면 pull은 mirror에 없는 객체만 받는다
+        updateMirror(repositoryURL, toAuthUrl(repositoryURL, accessToken));
+        // 프로젝트 설정에서 경로가 바뀌었을 수 있으므로 pull 전에 sparse 경로를 다시 맞춘다
+        applySparseCheckout(path, sparsePaths);
+
+        for (CommandLine commandLine : gitCheckoutStrategy.pullCommands(path, branch)) {
+            CommandResult result = commandExecutor.execute(CommandType.GIT, commandLine, null);
+            if (!result.isSuccess()) {
+                log.warn("git pull 실패 : {}\n{}", path, result.getOutput());
+                throw new GitPullFailedException(result.getErrorMessage(), result.getCause());
+            }
+        }
+        log.info("git pull success : {}", path);
+    }
 
-        sb = new StringBuilder();
-        sb.append("git -C ").append(path).append(" pull");
-        CommandLine commandLine = CommandLine.parse(sb.toString());
-        executor.setStreamHandler(streamHandler);
-        try {
-            executor.execute(commandLine);
-            String result = outputStream.toString().trim();
-            System.out.println("git pull success : " + result);
-        } catch (Exception e) {
-            System.out.println(outputStream.toString().trim());
-            throw new GitPullFailedException(e.getMessage(), e);
+    /*
+     * path(프로젝트 clone)의 worktree로 branch를 checkout, 이미 있으면 최신 커밋으로 이동
+     * worktree 경로 : <path>/.worktrees/<브랜치>
+     */
+    @Override
+    public void gitWorktree(String path, String branch, List<String> sparsePaths) {
+        String worktreePath = GitCheckoutStrategy.worktreePath(path, branch).toString();
+
+        CommandResult result = commandExecutor.execute(CommandType.GIT,
+                gitCheckoutStrategy.fetchBranchCommand(path, branch), null);
+        if (!result.isSuccess()) {
+            throw new GitPullFailedException(result.getErrorMessage(), result.getCause());
+        }
+
+        if (!checkIsCloned(worktreePath)) {
+            excludeWorktreeDirectory(path);
+            result = commandExecutor.execute(CommandType.GIT,
+                    gitCheckoutStrategy.addWorktreeCommand(path, worktreePath, branch), null);
+        } else {
+            result = commandExecutor.execute(CommandType.GIT,
+                    gitCheckoutStrategy.resetWorktreeCommand(worktreePath, branch), null);
+        }
+        if (!result.isSuccess()) {
+            throw new GitCheckoutFailedException(result.getErrorMessage(), result.getOutput());
+        }
+        applySparseCheckout(worktreePath, sparsePaths);
+        log.info("git worktree success : {}", worktreePath);
+    }
+
+    // 더 이상 쓰지 않는 브랜치의 worktree 삭제
+    @Override
+    public void removeGitWorktrees(String path, Set<String> keepBranches) {
+        commandExecutor.execute(CommandType.GIT, gitCheckoutStrategy.pruneWorktreesCommand(path), null);
+
+        File[] worktrees = new File(path, GitCheckoutStrategy.WORKTREE_DIRECTORY).listFiles(File::isDirectory);
+        if (worktrees == null) {
+            return;
+        }
+
+        Set<String> keepNames = new HashSet<>();
+        keepBranches.forEach(branch -> keepNames.add(GitCheckoutStrategy.worktreeName(branch)));
+        for (File worktree : worktrees) {
+            if (keepNames.contains(worktree.getName())) {
+                continue;
+            }
+            // -C 기준으로 해석되지 않도록 절대경로로 넘긴다
+            String worktreePath = GitCheckoutStrategy.worktreePath(path, worktree.getName()).toString();
+            CommandResult result = commandExecutor.execute(CommandType.GIT,
+                    gitCheckoutStrategy.removeWorktreeCommand(path, worktreePath), null);
+            if (!result.isSuccess()) {
+                log.warn("git worktree 삭제 실패 : {} ({})", worktreePath, result.getErrorMessage());
+            }
         }
     }
 
     // 빌드
     @Override
     public void build(String path, String projectName) {
-        sb = new StringBuilder();
+        StringBuilder sb = new StringBuilder();
         sb.append("docker build ").append(projectName + " .");
 
-        CommandLine commandLine = CommandLine.parse(sb.toString());
-        executor.setStreamHandler(streamHandler);
-        try {
-            executor.setWorkingDirectory(new File(path));
-            executor.execute(commandLine);
-            String result = outputStream.toString().trim(); // 명령어 실행 결과를 문자열로 받음
-            System.out.println("빌드 성공: " + result);
-        } catch (Exception e) {
-            System.out.println("빌드 중 에러 발생: " + e.getMessage());
-            e.printStackTrace();
+        CommandResult result = buildScheduler.run(path,
+                () -> commandExecutor.execute(CommandType.BUILD, sb.toString(), new File(path)));
+        if (!result.isSuccess()) {
+            log.error("docker build failed : {} ({})", projectName, result.getErrorMessage());
+            return;
         }
+        log.info("docker build success : {}", projectName);
+        log.debug("docker build output : {}", result.getOutput());
     }
 
     @Override
     public void run(String path, int port1, int port2) {
-        sb = new StringBuilder();
+        StringBuilder sb = new StringBuilder();
         sb.append("docker run -p ").append(port1).append(":").append(port2).append(" welcome");
 
-        CommandLine commandLine = CommandLine.parse(sb.toString());
-        executor.setStreamHandler(streamHandler);
-        try {
-            executor.setWorkingDirectory(new File(path));
-            executor.execute(commandLine);
-            String result = outputStream.toString().trim(); // 명령어 실행 결과를 문자열로 받음
-            System.out.println("실행 성공: " + result);
-        } catch (Exception e) {
-            System.out.println("실행 중 에러 발생: " + e.getMessage());
-            e.printStackTrace();
+        CommandResult result = commandExecutor.execute(CommandType.BUILD, sb.toString(), new File(path));
+        if (!result.isSuccess()) {
+            log.error("docker run failed : {} ({})", path, result.getErrorMessage());
+            return;
         }
+        log.info("docker run success : {}", path);
+        log.debug("docker run output : {}", result.getOutput());
     }
 
+    // buildServices : 다시 빌드할 compose 서비스 (null이면 전체 다시 빌드, 비어 있으면 빌드 없이 실행)
     @Override
-    public void dockerComposeUp(String path) {
-        sb = new StringBuilder();
-        sb.append("docker compose -f ").append(path + "/docker-compose.yml").append(" up --build -d");
+    public void dockerComposeUp(String path, Set<String> buildServices) {
+        String compose = "docker compose -f " + path + "/docker-compose.yml";
+
+        if (buildServices == null) {
+            CommandResult result = buildScheduler.run(path,
+                    () -> commandExecutor.execute(CommandType.BUILD, compose + " up --build -d"));
+            if (!result.isSuccess()) {
+                throw new ProjectStartFailedException(result.getErrorMessage(), result.getOutput());
+            }
+            log.info("compose up success : {}", path);
+            return;
+        }
 
-        CommandLine commandLine = CommandLine.parse(sb.toString());
-        executor.setStreamHandler(streamHandler);
-        try {
-            executor.execute(commandLine);
-            String result = outputStream.toString().trim(); // 명령어 실행 결과를 문자열로 받음
-            System.out.println("compose up success : " + result);
-        } catch (Exception e) {
-            String result = outputStream.toString().trim();
-            throw new ProjectStartFailedException(e.getMessage(), result);
+        if (!buildServices.isEmpty()) {
+            CommandResult result = buildScheduler.run(path,
+                    () -> commandExecutor.execute(CommandType.BUILD, compose + " build " + String.join(" ", buildServices)));
+            if (!result.isSuccess()) {
+                throw new ProjectStartFailedException(result.getErrorMessage(), result.getOutput());
+            }
         }
+        // 이미지나 설정이 바뀐 서비스만 다시 생성되고 나머지 컨테이너는 그대로 둔다
+        // 빌드는 위에서 BuildScheduler를 거쳐서만 하므로 up에서는 빌드하지 않는다 (이미지가 없으면 실패)
+        CommandResult result = commandExecutor.execute(CommandType.BUILD, compose + " up -d --no-build");
+        if (!result.isSuccess()) {
+            throw new ProjectStartFailedException(result.getErrorMessage(), result.getOutput());
+        }
+        log.info("compose up success (build {}) : {}", buildServices, path);
     }
 
     @Override
     public void dockerComposeDown(String path) {
-        sb = new StringBuilder();
+        StringBuilder sb = new StringBuilder();
         sb.append("docker compose -f ").append(path + "/docker-compose.yml").append(" down --rmi all");
-        CommandLine commandLine = CommandLine.parse(sb.toString());
-        executor.setStreamHandler(streamHandler);
-        try {
-            executor.execute(commandLine);
-            String result = outputStream.toString().trim(); // 명령어 실행 결과를 문자열로 받음
-            System.out.println("compose down success : " + result);
-        } catch (Exception e) {
-            String result = outputStream.toString().trim();
-            throw new ProjectStopFailedException(e.getMessage(), result);
+
+        // 이미지가 지워지므로 다음 실행은 전체 빌드 (down이 중간에 실패해도 일부 이미지는 지워졌을 수 있음)
+        composeBuildPlanner.forget(path);
+        CommandResult result = commandExecutor.execute(CommandType.BUILD, sb.toString());
+        if (!result.isSuccess()) {
+            throw new ProjectStopFailedException(result.getErrorMessage(), result.getOutput());
         }
+        log.info("compose down success : {}", path);
+        log.debug("compose down output : {}", result.getOutput());
     }
 
     @Override
     public void dockerStop(String containerName) {
-        sb = new StringBuilder();
-        sb.append("docker stop ").append(containerName);
-        CommandLine commandLine = CommandLine.parse(sb.toString());
-        executor.setStreamHandler(streamHandler);
         try {
-            executor.execute(commandLine);
-            String result = outputStream.toString().trim();
-            System.out.println("docker stop success : " + result);
-        } catch (Exception e) {
-            String result = outputStream.toString().trim();
-            throw new ServiceStopFailedException(e.getMessage(), result);
+            dockerEngineService.stopContainer(containerName);
+            log.info("docker stop success : {}", containerName);
+        } catch (DockerException e) {
+            throw new ServiceStopFailedException(e.getMessage(), containerName);
         }
     }
 
     @Override
     public void dockerStart(String containerName) {
-        sb = new StringBuilder();
-        sb.append("docker start ").append(containerName);
-        CommandLine commandLine = CommandLine.parse(sb.toString());
-        executor.setStreamHandler(streamHandler);
         try {
-            executor.execute(commandLine);
-            String result = outputStream.toString().trim();
-            System.out.println("docker start success : " + result);
-        } catch (Exception e) {
-            String result = outputStream.toString().trim();
-            throw new ServiceStopFailedException(e.getMessage(), result);
+            dockerEngineService.startContainer(containerName);
+            log.info("docker start success : {}", containerName);
+        } catch (DockerException e) {
+            throw new ServiceStartFailedException(e.getMessage(), containerName);
         }
     }
 
     @Override
     public void restartNginx() {
-        sb = new StringBuilder();
-        sb.append("docker restart nginx");
-        CommandLine commandLine = CommandLine.parse(sb.toString());
-        executor.setStreamHandler(streamHandler);
         try {
-            executor.execute(commandLine);
-            String result = outputStream.toString().trim();
-            System.out.println("restartNginx success : " + result);
-        } catch (Exception e) {
-            String result = outputStream.toString().trim();
-            throw new NginxRestartFailedException(e.getMessage(), result);
+            dockerEngineService.restartContainer("nginx");
+            log.info("restartNginx success");
+        } catch (DockerException e) {
+            throw new NginxRestartFailedException(e.getMessage(), "nginx");
         }
     }
 
     @Override
     public void stopNginx() {
-        sb = new StringBuilder();
-        sb.append("docker stop nginx");
-        CommandLine commandLine = CommandLine.parse(sb.toString());
-        executor.setStreamHandler(streamHandler);
         try {
-            executor.execute(commandLine);
-            String result = outputStream.toString().trim();
-            System.out.println("stopNginx success : " + result);
-        } catch (Exception e) {
-            String result = outputStream.toString().trim();
-            throw new NginxStopFailedException(e.getMessage(), result);
+            dockerEngineService.stopContainer("nginx");
+            log.info("stopNginx success");
+        } catch (DockerException e) {
+            throw new NginxStopFailedException(e.getMessage(), "nginx");
         }
     }
 
     @Override
     public void deleteNginxProxyConf(String projectId) {
-        sb = new StringBuilder();
+        StringBuilder sb = new StringBuilder();
         sb.append("rm -f /nginx/").append(projectId).append(".conf");
-        CommandLine commandLine = CommandLine.parse(sb.toString());
-        executor.setStreamHandler(streamHandler);
-        try {
-            executor.execute(commandLine);
-            String result = outputStream.toString().trim();
-            System.out.println("deleteNginxConf success : " + result);
-        } catch (Exception e) {
-            String result = outputStream.toString().trim();
-            throw new NginxConfDeleteFailedException(e.getMessage(), result);
+
+        CommandResult result = commandExecutor.execute(CommandType.SHELL, sb.toString());
+        if (!result.isSuccess()) {
+            throw new NginxConfDeleteFailedException(result.getErrorMessage(), result.getOutput());
         }
+        log.info("deleteNginxConf success : {}", projectId);
     }
 
     @Override
     public void deleteFile(String fileName, String path) {
-        sb = new StringBuilder();
+        StringBuilder sb = new StringBuilder();
         sb.append("rm -f ").append(path).append(fileName);
-        CommandLine commandLine = CommandLine.parse(sb.toString());
-        executor.setStreamHandler(streamHandler);
-        try {
-            executor.execute(commandLine);
-            String result = outputStream.toString().trim();
-            System.out.println("delete " + fileName + " success : " + result);
-        } catch (Exception e) {
-            String result = outputStream.toString().trim();
-            throw new DeleteFileFailedException(e.getMessage(), result);
+
+        CommandResult result = commandExecutor.execute(CommandType.SHELL, sb.toString());
+        if (!result.isSuccess()) {
+            throw new DeleteFileFailedException(result.getErrorMessage(), result.getOutput());
         }
+        log.info("delete file success : {}{}", path, fileName);
     }
 
     @Override
@@ -282,21 +310,11 @@ public class CommandServiceImpl implements CommandService {
             // Windows 기반 시스템의 경우 아래의 명령어를 사용
             // sb.append("cmd /c rd /s /q ").append(directory.getAbsolutePath());
 
-            CommandLine commandLine = CommandLine.parse(sb.toString());
-
-            DefaultExecutor executor = new DefaultExecutor();
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            PumpStreamHandler streamHandler = new PumpStreamHandler(outputStream);
-            executor.setStreamHandler(streamHandler);
-
-            try {
-                executor.execute(commandLine);
-                String result = outputStream.toString().trim(); // 명령어 실행 결과를 문자열로 받음
-                System.out.println("Directory delete success: " + result);
-            } catch (Exception e) {
-                String result = outputStream.toString().trim();
-                throw new RuntimeException("Directory Delete Failed: " + e.getMessage() + ", " + result);
+            CommandResult result = commandExecutor.execute(CommandType.SHELL, sb.toString());
+            if (!result.isSuccess()) {
+                throw new RuntimeException("Directory Delete Failed: " + result.getErrorMessage() + ", " + result.getOutput());
             }
+            log.info("directory delete success : {}", directoryPath);
         } else {
             throw new RuntimeException("Directory not found: " + directoryPath);
         }
@@ -319,30 +337,26 @@ public class CommandServiceImpl implements CommandService {
         writer.flush(); // 버퍼 비우기
         writer.close(); // 파일 닫기
 
-        System.out.println("명령어를 성공적으로 파이프에 전달했습니다.");
+        log.info("명령어를 성공적으로 파이프에 전달했습니다.");
 
 
         try {
             String logResult = Files.readString(Paths.get("/logfile.log"));
-            System.out.println("ssl issued log : " + logResult);
+            log.debug("ssl issued log : {}", logResult);
 
             while (!logResult.contains("IMPORTANT NOTES") && !logResult.contains("no action taken")) {
                 TimeUnit.SECONDS.sleep(5);
                 logResult = Files.readString(Paths.get("/logfile.log"));
-                System.out.println("ssl issued log : " + logResult);
+                log.debug("ssl issued log : {}", logResult);
             }
 
 
             if (logResult.contains("no action taken")) {
                 log.info("인증서가 아직 유효합니다.");
-                System.out.println("인증서가 아직 유효합니다.");
             } else if (logResult.contains("Congratulations")) {
                 log.info("인증서가 성공적으로 발급되었습니다.");
-                System.out.println("인증서가 성공적으로 발급되었습니다.");
             } else {
-                log.info("인증서 발급실패");
-                System.out.println("Error : 인증서 발급실패");
-                System.out.println("파일 비우기");
+                log.error("인증서 발급실패 : {}", domain);
                 throw new SSLCertificateIssueFailedException();
             }
 
@@ -353,13 +367,82 @@ public class CommandServiceImpl implements CommandService {
     }
     }
 
+    private String toAuthUrl(String repositoryURL, String accessToken) {
+        return repositoryURL.replace("https://", "https://oauth2:" + accessToken + "@");
+    }
+
+    // mirror를 사용하지 않으면 null, mirror 갱신에 실패하면 mirror 없이 진행
+    private Path updateMirror(String repositoryURL, String authUrl) {
+        if (!gitCheckoutStrategy.isMirrorEnabled()) {
+            return null;
+        }
+
+        Path mirror = gitCheckoutStrategy.mirrorPath(repositoryURL);
+        ReentrantLock lock = gitCheckoutStrategy.mirrorLock(mirror);
+        lock.lock();
+        try {
+            CommandResult result;
+            if (Files.isDirectory(mirror)) {
+                result = commandExecutor.execute(CommandType.GIT, gitCheckoutStrategy.updateMirrorCommand(authUrl, mirror), null);
+            } else {
+                Files.createDirectories(mirror.getParent());
+                result = commandExecutor.execute(CommandType.GIT, gitCheckoutStrategy.createMirrorCommand(authUrl, mirror), null);
+                if (result.isSuccess()) {
+                    result = commandExecutor.execute(CommandType.GIT,
+                            gitCheckoutStrategy.setMirrorRemoteCommand(repositoryURL, mirror), null);
+                }
+            }
+            if (!result.isSuccess()) {
+                log.warn("git mirror 갱신 실패, mirror 없이 진행합니다 : {} ({})", mirror, result.getErrorMessage());
+                return Files.isDirectory(mirror) ? mirror : null;
+            }
+            return mirror;
+        } catch (IOException e) {
+            log.warn("git mirror 디렉토리 생성 실패 : {} ({})", mirror, e.getMessage());
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // worktree 디렉토리가 프로젝트 clone의 변경 사항으로 보이지 않도록 .git/info/exclude에 추가
+    private void excludeWorktreeDirectory(String path) {
+        Path exclude = Paths.get(path, ".git", "info", "exclude");
+        String pattern = "/" + GitCheckoutStrategy.WORKTREE_DIRECTORY + "/";
+        try {
+            if (Files.exists(exclude) && Files.readAllLines(exclude).contains(pattern)) {
+                return;
+            }
+            Files.createDirectories(exclude.getParent());
+            Files.writeString(exclude, pattern + System.lineSeparator(),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.warn("{} 수정 실패 : {}", exclude, e.getMessage());
+        }
+    }
+
+    private void applySparseCheckout(String path, List<String> sparsePaths) {
+        if (!gitCheckoutStrategy.isSparse()) {
+            return;
+        }
+
+        CommandLine commandLine = gitCheckoutStrategy.sparseCheckoutCommand(path, sparsePaths);
+        if (commandLine == null) {
+            // 저장소 루트를 쓰는 서비스가 있으면 전체 checkout
+            commandLine = gitCheckoutStrategy.disableSparseCheckoutCommand(path);
+        }
+        CommandResult result = commandExecutor.execute(CommandType.GIT, commandLine, null);
+        if (!result.isSuccess()) {
+            throw new GitCheckoutFailedException(result.getErrorMessage(), result.getOutput());
+        }
+    }
+
     public void deleteSSLLog() {
         Path filepath = Paths.get("/logfile.log");
         try (BufferedWriter writer = Files.newBufferedWriter(filepath, StandardOpenOption.TRUNCATE_EXISTING)) {
             // 파일을 비우기 위해 아무것도 쓰지 않습니다.
         } catch (Exception e) {
-            String result = outputStream.toString().trim();
-            throw new SSLLogDeleteFailedException(e.getMessage(), result);
+            throw new SSLLogDeleteFailedException(e.getMessage(), "");
         }
     }
 
@@ -0,0 +1,11 @@
+package com.dobie.backend.util.command;
+
+// 명령어 종류별로 실행 제한 시간(dobie.command.timeout.*)을 다르게 적용
+public enum CommandType {
+    // git clone/pull/checkout
+    GIT,
+    // docker build, compose up/down
+    BUILD,
+    // 파일 삭제/조회 등 금방 끝나는 명령어
+    SHELL
+}
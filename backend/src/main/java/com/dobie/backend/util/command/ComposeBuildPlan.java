@@ -0,0 +1,15 @@
+package com.dobie.backend.util.command;
+
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * docker compose up 전에 계산한 서비스별 빌드 입력 fingerprint와 다시 빌드할 서비스 목록
+ * buildServices가 null이면 이전 기록과 비교할 수 없는 경우로, 전체를 다시 빌드한다
+ */
+public record ComposeBuildPlan(Map<String, ComposeBuildPlan.ServiceBuild> services, Set<String> buildServices) {
+
+    // fingerprint : build context 내용 + 생성한 compose 서비스 설정의 hash, commit : context가 속한 checkout의 HEAD
+    public record ServiceBuild(String fingerprint, String commit) {
+    }
+}
@@ -0,0 +1,234 @@
+package com.dobie.backend.util.command;
+
+import com.dobie.backend.util.file.DataPath;
+import com.dobie.backend.util.file.SnapshotWriter;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/*
+ * 변경된 서비스만 다시 빌드하기 위한 빌드 입력 비교 (dobie.build.incremental)
+ * docker-compose.yml에서 build가 있는 서비스마다 fingerprint를 계산해서 마지막으로 빌드한 값과 다르면 빌드 대상
+ *   - build context 디렉토리에서 docker가 빌드에 보내는 파일 내용 (.dockerignore로 제외된 파일은 빼고,
+ *     git이 추적하지 않는 생성된 Dockerfile, 업로드한 설정 파일은 포함)
+ *   - compose 파일의 해당 서비스 설정
+ * 그래서 프론트엔드 경로 밖의 README만 바뀐 push는 백엔드를 다시 빌드하지 않는다
+ * 빌드 기록은 /data/build-state/<프로젝트>.json에 compose up이 성공한 뒤 저장한다
+ *   - compose down --rmi all로 이미지를 지우거나 프로젝트를 삭제하면 기록도 지운다 (다음 실행은 전체 빌드)
+ */
+@Component
+@Log4j2
+public class ComposeBuildPlanner {
+
+    private static final String STATE_DIRECTORY = "/data/build-state";
+
+    private final CommandExecutor commandExecutor;
+    private final SnapshotWriter snapshotWriter;
+    private final ObjectMapper mapper;
+    private final boolean incremental;
+    private final Path stateDirectory;
+
+    @Autowired
+    public ComposeBuildPlanner(CommandExecutor commandExecutor,
+                               SnapshotWriter snapshotWriter,
+                               ObjectMapper mapper,
+                               @Value("${dobie.build.incremental:true}") boolean incremental) {
+        this(commandExecutor, snapshotWriter, mapper, incremental, Paths.get(DataPath.resolve(STATE_DIRECTORY)));
+    }
+
+    // stateDirectory : 빌드 기록 디렉토리 (테스트에서 임시 디렉토리 지정)
+    ComposeBuildPlanner(CommandExecutor commandExecutor, SnapshotWriter snapshotWriter, ObjectMapper mapper,
+                        boolean incremental, Path stateDirectory) {
+        this.commandExecutor = commandExecutor;
+        this.snapshotWriter = snapshotWriter;
+        this.mapper = mapper;
+        this.incremental = incremental;
+        this.stateDirectory = stateDirectory;
+    }
+
+    // path : 프로젝트 clone 경로 (docker-compose.yml이 있는 곳)
+    public ComposeBuildPlan plan(String path) {
+        if (!incremental) {
+            return new ComposeBuildPlan(Map.of(), null);
+        }
+
+        Map<String, ComposeBuildPlan.ServiceBuild> services;
+        try {
+            services = fingerprintServices(Paths.get(path));
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("빌드 입력 계산 실패, 전체 빌드합니다 : {} ({})", path, e.getMessage());
+            return new ComposeBuildPlan(Map.of(), null);
+        }
+
+        Map<String, ComposeBuildPlan.ServiceBuild> built = readState(path);
+        Set<String> buildServices = new TreeSet<>();
+        services.forEach((service, build) -> {
+            ComposeBuildPlan.ServiceBuild previous = built.get(service);
+            if (previous == null || !previous.fingerprint().equals(build.fingerprint())) {
+                buildServices.add(service);
+            }
+        });
+        log.info("빌드 대상 서비스 : {} (전체 {}개)", buildServices, services.size());
+        return new ComposeBuildPlan(services, buildServices);
+    }
+
+    // compose up이 성공한 뒤 호출
+    public void record(String path, ComposeBuildPlan plan) {
+        if (plan.buildServices() == null) {
+            return;
+        }
+        Map<String, ComposeBuildPlan.ServiceBuild> state = new LinkedHashMap<>(plan.services());
+        snapshotWriter.write(statePath(path), () -> mapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(state));
+    }
+
+    // 이미지가 삭제될 때 호출, 기록이 남아 있으면 다음 plan이 빌드 없이 up 하게 된다
+    public void forget(String path) {
+        snapshotWriter.delete(statePath(path));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, ComposeBuildPlan.ServiceBuild> fingerprintServices(Path projectPath) throws IOException {
+        Map<String, Object> compose;
+        try (Reader reader = Files.newBufferedReader(projectPath.resolve("docker-compose.yml"))) {
+            compose = new Yaml().load(reader);
+        }
+
+        Map<String, ComposeBuildPlan.ServiceBuild> services = new LinkedHashMap<>();
+        Map<String, Object> composeServices = (Map<String, Object>) compose.getOrDefault("services", Map.of());
+        for (Map.Entry<String, Object> entry : composeServices.entrySet()) {
+            Map<String, Object> service = (Map<String, Object>) entry.getValue();
+            if (!(service.get("build") instanceof Map<?, ?> build) || build.get("context") == null) {
+                continue;
+            }
+
+            Path context = projectPath.resolve(String.valueOf(build.get("context"))).normalize();
+            MessageDigest digest = sha256();
+            digest.update(new Yaml().dump(service).getBytes(StandardCharsets.UTF_8));
+            digestDirectory(context, digest);
+            services.put(entry.getKey(), new ComposeBuildPlan.ServiceBuild(
+                    HexFormat.of().formatHex(digest.digest()), headCommit(checkoutRoot(projectPath, context))));
+        }
+        return services;
+    }
+
+    // 경로 순서대로 (상대 경로, 내용)을 hash, .git과 worktree 디렉토리, .dockerignore로 제외된 파일은 빼고 읽는다
+    private void digestDirectory(Path context, MessageDigest digest) throws IOException {
+        DockerIgnore dockerIgnore = DockerIgnore.load(context);
+        List<Path> files = new ArrayList<>();
+        Files.walkFileTree(context, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                if (dir.equals(context)) {
+                    return FileVisitResult.CONTINUE;
+                }
+                Path relative = context.relativize(dir);
+                // 제외된 디렉토리(node_modules, build 결과물 등)는 내려가지 않는다
+                return excluded(relative) || dockerIgnore.skipDirectory(slashPath(relative))
+                        ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (attrs.isRegularFile() && !dockerIgnore.excluded(slashPath(context.relativize(file)))) {
+                    files.add(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        files.sort(null);
+
+        for (Path file : files) {
+            digest.update(context.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            // 읽는 동안 DigestInputStream이 내용을 digest에 반영
+            try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+        }
+    }
+
+    private static String slashPath(Path relative) {
+        return relative.toString().replace(File.separatorChar, '/');
+    }
+
+    private boolean excluded(Path relative) {
+        for (Path name : relative) {
+            String part = name.toString();
+            if (part.equals(".git") || part.equals(GitCheckoutStrategy.WORKTREE_DIRECTORY)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // worktree 안의 context면 해당 worktree, 아니면 프로젝트 clone
+    private Path checkoutRoot(Path projectPath, Path context) {
+        Path relative = projectPath.normalize().relativize(context);
+        if (relative.getNameCount() >= 2 && relative.getName(0).toString().equals(GitCheckoutStrategy.WORKTREE_DIRECTORY)) {
+            return projectPath.resolve(relative.subpath(0, 2));
+        }
+        return projectPath;
+    }
+
+    // 기록용이므로 조회에 실패하면 null
+    private String headCommit(Path checkout) {
+        CommandResult result = commandExecutor.execute(CommandType.GIT, "git -C " + checkout + " rev-parse HEAD");
+        return result.isSuccess() ? result.getOutput().trim() : null;
+    }
+
+    private Map<String, ComposeBuildPlan.ServiceBuild> readState(String path) {
+        Path state = statePath(path);
+        if (!Files.exists(state)) {
+            return new HashMap<>();
+        }
+        try {
+            return mapper.readValue(state.toFile(), new TypeReference<Map<String, ComposeBuildPlan.ServiceBuild>>() {});
+        } catch (IOException e) {
+            log.warn("빌드 기록 읽기 실패, 전체 빌드합니다 : {} ({})", state, e.getMessage());
+            return new HashMap<>();
+        }
+    }
+
+    private Path statePath(String path) {
+        String projectName = Objects.requireNonNull(Paths.get(path).normalize().getFileName()).toString();
+        return stateDirectory.resolve(projectName + ".json");
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.dobie.backend.util.command;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/*
+ * build context의 .dockerignore (docker build가 context로 보내지 않는 파일)
+ * docker와 같은 규칙으로 판단한다
+ *   - 경로는 context 기준 상대 경로, 맨 앞의 /는 무시
+ *   - *, ?, [...]는 경로 구분자(/)를 넘지 않고, **는 디렉토리 여러 단계와 일치
+ *   - 패턴이 상위 디렉토리와 일치해도 제외, !로 시작하면 다시 포함, 마지막으로 일치한 패턴이 우선
+ *   - Dockerfile, .dockerignore는 제외되어도 docker가 항상 읽으므로 빌드 입력으로 본다
+ */
+final class DockerIgnore {
+
+    static final String FILE_NAME = ".dockerignore";
+
+    private static final List<String> ALWAYS_INCLUDED = List.of("Dockerfile", FILE_NAME);
+
+    private final List<Rule> rules;
+    private final boolean hasExceptions;
+
+    private DockerIgnore(List<Rule> rules) {
+        this.rules = rules;
+        this.hasExceptions = rules.stream().anyMatch(Rule::exception);
+    }
+
+    // .dockerignore가 없으면 아무것도 제외하지 않는다
+    static DockerIgnore load(Path context) throws IOException {
+        Path file = context.resolve(FILE_NAME);
+        if (!Files.isRegularFile(file)) {
+            return parse(List.of());
+        }
+        return parse(Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    static DockerIgnore parse(List<String> lines) {
+        List<Rule> rules = new ArrayList<>();
+        for (String line : lines) {
+            String pattern = line.trim();
+            if (pattern.isEmpty() || pattern.startsWith("#")) {
+                continue;
+            }
+            boolean exception = pattern.startsWith("!");
+            if (exception) {
+                pattern = pattern.substring(1).trim();
+            }
+            pattern = normalize(pattern);
+            if (pattern.isEmpty()) {
+                continue;
+            }
+            rules.add(new Rule(compile(pattern), exception));
+        }
+        return new DockerIgnore(rules);
+    }
+
+    // relativePath : context 기준 상대 경로 (구분자 /)
+    boolean excluded(String relativePath) {
+        if (ALWAYS_INCLUDED.contains(relativePath)) {
+            return false;
+        }
+        boolean excluded = false;
+        for (Rule rule : rules) {
+            if (rule.matchesOrParentMatches(relativePath)) {
+                excluded = !rule.exception();
+            }
+        }
+        return excluded;
+    }
+
+    // 제외된 디렉토리라도 ! 패턴이 있으면 안쪽 파일이 다시 포함될 수 있으므로 내려가서 확인해야 한다
+    boolean skipDirectory(String relativePath) {
+        return !hasExceptions && excluded(relativePath);
+    }
+
+    // "./build/", "/out" -> "build", "out"
+    private static String normalize(String pattern) {
+        String normalized = Path.of(pattern).normalize().toString().replace('\\', '/');
+        while (normalized.startsWith("/")) {
+            normalized = normalized.substring(1);
+        }
+        return normalized.equals(".") ? "" : normalized;
+    }
+
+    private static Pattern compile(String pattern) {
+        StringBuilder regex = new StringBuilder("^");
+        for (int i = 0; i < pattern.length(); i++) {
+            char ch = pattern.charAt(i);
+            if (ch == '*') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '*') {
+                    i++;
+                    if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '/') {
+                        i++;
+                    }
+                    // 끝의 **는 전부, 중간의 **/는 디렉토리 0단계 이상
+                    regex.append(i + 1 == pattern.length() ? ".*" : "(.*/)?");
+                } else {
+                    regex.append("[^/]*");
+                }
+            } else if (ch == '?') {
+                regex.append("[^/]");
+            } else if (ch == '[') {
+                int end = pattern.indexOf(']', i + 1);
+                if (end < 0) {
+                    regex.append("\\[");
+                } else {
+                    regex.append(pattern, i, end + 1);
+                    i = end;
+                }
+            } else if (ch == '\\' && i + 1 < pattern.length()) {
+                regex.append(Pattern.quote(String.valueOf(pattern.charAt(++i))));
+            } else {
+                regex.append(Pattern.quote(String.valueOf(ch)));
+            }
+        }
+        return Pattern.compile(regex.append('$').toString());
+    }
+
+    private record Rule(Pattern pattern, boolean exception) {
+
+        // "build"는 "build/libs/app.jar"도 제외
+        boolean matchesOrParentMatches(String path) {
+            if (pattern.matcher(path).matches()) {
+                return true;
+            }
+            for (int slash = path.indexOf('/'); slash >= 0; slash = path.indexOf('/', slash + 1)) {
+                if (pattern.matcher(path.substring(0, slash)).matches()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.dobie.backend.util.command;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.exec.CommandLine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * git clone/pull 방식 (dobie.git.*)
+ *   mode   : full    - 전체 이력 clone (기존 방식)
+ *            shallow - --depth 만큼의 최근 이력만 clone/pull
+ *            partial - 이력은 전부, 파일 내용(blob)은 checkout할 때 필요한 것만 받는다 (--filter=blob:none)
+ *   sparse : 프로젝트 설정의 백엔드/프론트엔드 path만 checkout (루트 파일은 항상 포함)
+ *   mirror : 저장소별 bare mirror를 mirror.directory에 두고 프로젝트 clone은 mirror에서 객체를 복사해 온다
+ *            같은 저장소를 쓰는 프로젝트끼리, 재빌드할 때마다 이미 받은 객체를 다시 원격에서 받지 않는다
+ *            mirror는 fetch --prune으로 갱신되므로 clone이 mirror 객체를 계속 참조하지 않도록 --dissociate로 끊는다
+ * 프로젝트 브랜치와 다른 브랜치를 쓰는 서비스는 프로젝트 clone의 worktree(<프로젝트>/.worktrees/<브랜치>)로 checkout한다
+ *   - 객체 저장소는 프로젝트 clone 하나를 공유하고, 브랜치마다 작업 디렉토리만 따로 둔다
+ * 명령어 조립만 담당하고 실행은 CommandServiceImpl에서 한다
+ */
+@Component
+@Log4j2
+public class GitCheckoutStrategy {
+
+    public enum Mode {
+        FULL, SHALLOW, PARTIAL
+    }
+
+    @Getter
+    private final Mode mode;
+    private final int depth;
+    @Getter
+    private final boolean sparse;
+    @Getter
+    private final boolean mirrorEnabled;
+    private final Path mirrorDirectory;
+
+    // 같은 mirror를 동시에 갱신하지 않도록 mirror 경로별 lock
+    private final Map<Path, ReentrantLock> mirrorLocks = new ConcurrentHashMap<>();
+
+    public GitCheckoutStrategy(@Value("${dobie.git.mode:full}") String mode,
+                               @Value("${dobie.git.depth:1}") int depth,
+                               @Value("${dobie.git.sparse:false}") boolean sparse,
+                               @Value("${dobie.git.mirror.enabled:false}") boolean mirrorEnabled,
+                               @Value("${dobie.git.mirror.directory:/data/git-mirrors}") String mirrorDirectory) {
+        this.mode = Mode.valueOf(mode.toUpperCase());
+        this.depth = depth;
+        this.sparse = sparse;
+        this.mirrorEnabled = mirrorEnabled;
+        this.mirrorDirectory = Path.of(mirrorDirectory);
+        log.info("git checkout 방식 : {} (sparse {}, mirror {})", this.mode, sparse, mirrorEnabled);
+    }
+
+    public static final String WORKTREE_DIRECTORY = ".worktrees";
+
+    // authUrl : 액세스 토큰이 포함된 clone URL, branch가 없으면 저장소 기본 브랜치
+    CommandLine cloneCommand(String authUrl, String path, String branch, Path mirror) {
+        CommandLine commandLine = new CommandLine("git");
+        commandLine.addArgument("clone");
+        addFetchOptions(commandLine);
+        if (branch != null && !branch.isBlank()) {
+            commandLine.addArgument("--branch");
+            commandLine.addArgument(branch, false);
+        }
+        if (sparse) {
+            // 처음에는 루트 파일만 checkout, 이후 sparse-checkout set으로 경로 추가
+            commandLine.addArgument("--sparse");
+        }
+        if (mirror != null) {
+            commandLine.addArgument("--reference-if-able");
+            commandLine.addArgument(mirror.toString(), false);
+            // mirror에서 정리(prune/gc)된 객체가 clone에서 사라지지 않도록 필요한 객체를 clone으로 복사
+            commandLine.addArgument("--dissociate");
+        }
+        commandLine.addArgument(authUrl, false);
+        commandLine.addArgument(path, false);
+        return commandLine;
+    }
+
+    /*
+     * 순서대로 실행할 명령어 목록, branch가 없으면 원격 기본 브랜치(HEAD)
+     * shallow : git pull --depth는 원격에 새 커밋이 생기면 얕은 이력끼리 합칠 수 없어 실패하므로
+     *           fetch --depth로 최신 커밋만 받은 뒤 작업 디렉토리를 그 커밋으로 맞춘다
+     * 그 외    : git pull (partial clone의 filter는 clone할 때 remote 설정에 기록되어 pull에도 그대로 적용된다)
+     */
+    List<CommandLine> pullCommands(String path, String branch) {
+        if (mode != Mode.SHALLOW) {
+            CommandLine commandLine = new CommandLine("git");
+            commandLine.addArgument("-C");
+            commandLine.addArgument(path, false);
+            commandLine.addArgument("pull");
+            return List.of(commandLine);
+        }
+
+        boolean hasBranch = branch != null && !branch.isBlank();
+        CommandLine fetch = new CommandLine("git");
+        fetch.addArgument("-C");
+        fetch.addArgument(path, false);
+        fetch.addArgument("fetch");
+        fetch.addArgument("--depth=" + depth);
+        fetch.addArgument("origin");
+        fetch.addArgument(hasBranch ? "+refs/heads/" + branch + ":refs/remotes/origin/" + branch : "HEAD", false);
+
+        CommandLine reset = new CommandLine("git");
+        reset.addArgument("-C");
+        reset.addArgument(path, false);
+        reset.addArgument("reset");
+        reset.addArgument("--hard");
+        reset.addArgument(hasBranch ? "origin/" + branch : "FETCH_HEAD", false);
+        return List.of(fetch, reset);
+    }
+
+    // 프로젝트 설정의 path("/backend")를 cone 모드 디렉토리("backend")로 바꾼다, 저장소 전체를 쓰는 서비스가 있으면 null
+    CommandLine sparseCheckoutCommand(String path, List<String> servicePaths) {
+        CommandLine commandLine = new CommandLine("git");
+        commandLine.addArgument("-C");
+        commandLine.addArgument(path, false);
+        commandLine.addArgument("sparse-checkout");
+        commandLine.addArgument("set");
+        for (String servicePath : servicePaths) {
+            String directory = servicePath == null ? "" : servicePath.replaceAll("^[./]+|/+$", "");
+            if (directory.isEmpty()) {
+                return null;
+            }
+            commandLine.addArgument(directory, false);
+        }
+        return commandLine;
+    }
+
+    CommandLine disableSparseCheckoutCommand(String path) {
+        CommandLine commandLine = new CommandLine("git");
+        commandLine.addArgument("-C");
+        commandLine.addArgument(path, false);
+        commandLine.addArgument("sparse-checkout");
+        commandLine.addArgument("disable");
+        return commandLine;
+    }
+
+    // 저장소 URL(토큰 제외)마다 하나의 mirror
+    Path mirrorPath(String repositoryURL) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(repositoryURL.trim().getBytes(StandardCharsets.UTF_8));
+            return mirrorDirectory.resolve(HexFormat.of().formatHex(hash, 0, 16) + ".git");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    ReentrantLock mirrorLock(Path mirror) {
+        return mirrorLocks.computeIfAbsent(mirror, key -> new ReentrantLock());
+    }
+
+    // mirror가 없을 때 : 토큰이 mirror 설정에 남지 않도록 clone 후 remote URL을 토큰 없는 주소로 바꾼다
+    CommandLine createMirrorCommand(String authUrl, Path mirror) {
+        CommandLine commandLine = new CommandLine("git");
+        commandLine.addArgument("clone");
+        commandLine.addArgument("--mirror");
+        if (mode == Mode.PARTIAL) {
+            commandLine.addArgument("--filter=blob:none");
+        }
+        commandLine.addArgument(authUrl, false);
+        commandLine.addArgument(mirror.toString(), false);
+        return commandLine;
+    }
+
+    CommandLine setMirrorRemoteCommand(String repositoryURL, Path mirror) {
+        CommandLine commandLine = new CommandLine("git");
+        commandLine.addArgument("-C");
+        commandLine.addArgument(mirror.toString(), false);
+        commandLine.addArgument("remote");
+        commandLine.addArgument("set-url");
+        commandLine.addArgument("origin");
+        commandLine.addArgument(repositoryURL, false);
+        return commandLine;
+    }
+
+    // 요청마다 호출한 프로젝트의 토큰으로 갱신 (프로젝트마다 토큰이 다를 수 있음)
+    CommandLine updateMirrorCommand(String authUrl, Path mirror) {
+        CommandLine commandLine = new CommandLine("git");
+        commandLine.addArgument("-C");
+        commandLine.addArgument(mirror.toString(), false);
+        commandLine.addArgument("fetch");
+        commandLine.addArgument("--prune");
+        commandLine.addArgument(authUrl, false);
+        commandLine.addArgument("+refs/heads/*:refs/heads/*", false);
+        commandLine.addArgument("+refs/tags/*:refs/tags/*", false);
+        return commandLine;
+    }
+
+    // 프로젝트 clone 안에서 worktree 디렉토리 이름 (브랜치 이름의 / 등은 _로 바꾼다)
+    public static String worktreeName(String branch) {
+        return branch.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    /*
+     * <path>/.worktrees/<브랜치> 절대경로
+     * git -C <path>는 path로 이동한 뒤 인자를 해석하므로 상대경로를 넘기면 <path>/<path>/.worktrees 아래에 만들어진다
+     */
+    static Path worktreePath(String path, String branch) {
+        return Path.of(path).toAbsolutePath().normalize()
+                .resolve(WORKTREE_DIRECTORY)
+                .resolve(worktreeName(branch));
+    }
+
+    // shallow/partial clone은 기본 브랜치만 받으므로 worktree 브랜치는 refspec을 지정해서 받는다
+    CommandLine fetchBranchCommand(String path, String branch) {
+        CommandLine commandLine = new CommandLine("git");
+        commandLine.addArgument("-C");
+        commandLine.addArgument(path, false);
+        commandLine.addArgument("fetch");
+        addFetchOptions(commandLine);
+        commandLine.addArgument("origin");
+        commandLine.addArgument("+refs/heads/" + branch + ":refs/remotes/origin/" + branch, false);
+        return commandLine;
+    }
+
+    // 같은 브랜치를 다른 worktree에서 checkout해도 충돌하지 않도록 detached HEAD로 추가
+    CommandLine addWorktreeCommand(String path, String worktreePath, String branch) {
+        CommandLine commandLine = new CommandLine("git");
+        commandLine.addArgument("-C");
+        commandLine.addArgument(path, false);
+        commandLine.addArgument("worktree");
+        commandLine.addArgument("add");
+        commandLine.addArgument("--detach");
+        commandLine.addArgument(worktreePath, false);
+        commandLine.addArgument("origin/" + branch, false);
+        return commandLine;
+    }
+
+    // 이미 있는 worktree를 받아온 커밋으로 이동 (생성한 Dockerfile 등 추적하지 않는 파일은 남는다)
+    CommandLine resetWorktreeCommand(String worktreePath, String branch) {
+        CommandLine commandLine = new CommandLine("git");
+        commandLine.addArgument("-C");
+        commandLine.addArgument(worktreePath, false);
+        commandLine.addArgument("reset");
+        commandLine.addArgument("--hard");
+        commandLine.addArgument("origin/" + branch, false);
+        return commandLine;
+    }
+
+    // 직접 삭제된 worktree 디렉토리의 등록 정보 정리
+    CommandLine pruneWorktreesCommand(String path) {
+        CommandLine commandLine = new CommandLine("git");
+        commandLine.addArgument("-C");
+        commandLine.addArgument(path, false);
+        commandLine.addArgument("worktree");
+        commandLine.addArgument("prune");
+        return commandLine;
+    }
+
+    CommandLine removeWorktreeCommand(String path, String worktreePath) {
+        CommandLine commandLine = new CommandLine("git");
+        commandLine.addArgument("-C");
+        commandLine.addArgument(path, false);
+        commandLine.addArgument("worktree");
+        commandLine.addArgument("remove");
+        commandLine.addArgument("--force");
+        commandLine.addArgument(worktreePath, false);
+        return commandLine;
+    }
+
+    private void addFetchOptions(CommandLine commandLine) {
+        switch (mode) {
+            case SHALLOW -> commandLine.addArgument("--depth=" + depth);
+            case PARTIAL -> commandLine.addArgument("--filter=blob:none");
+            case FULL -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.dobie.backend.util.command;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/*
+ * /proc에서 읽은 호스트 부하 (컨테이너 안에서도 /proc/loadavg, /proc/meminfo, /proc/stat은 호스트 값)
+ * load는 호스트 전체 값이므로 컨테이너 cgroup 제한이 적용되는 availableProcessors()가 아니라 호스트 CPU 수로 나눈다
+ * 읽을 수 없는 환경(리눅스가 아닌 경우 등)이면 null
+ */
+@Log4j2
+record HostLoad(double loadPerCpu, double availableMemoryRatio) {
+
+    private static final Path LOADAVG = Path.of("/proc/loadavg");
+    private static final Path MEMINFO = Path.of("/proc/meminfo");
+    private static final Path STAT = Path.of("/proc/stat");
+
+    static HostLoad read() {
+        try {
+            // 첫 번째 값이 최근 1분 평균
+            String loadavg = Files.readString(LOADAVG).trim();
+            double load = Double.parseDouble(loadavg.split("\\s+")[0]);
+
+            long total = -1;
+            long available = -1;
+            List<String> meminfo = Files.readAllLines(MEMINFO);
+            for (String line : meminfo) {
+                if (line.startsWith("MemTotal:")) {
+                    total = parseKilobytes(line);
+                } else if (line.startsWith("MemAvailable:")) {
+                    available = parseKilobytes(line);
+                }
+            }
+            if (total <= 0 || available < 0) {
+                return null;
+            }
+
+            return new HostLoad(load / hostCpuCount(), (double) available / total);
+        } catch (IOException | RuntimeException e) {
+            log.debug("호스트 부하 조회 실패 : {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // /proc/stat의 cpu0, cpu1 ... 줄 수, 읽을 수 없으면 JVM이 보는 CPU 수
+    private static int hostCpuCount() {
+        try (Stream<String> lines = Files.lines(STAT)) {
+            long count = lines.filter(line -> line.length() > 3 && line.startsWith("cpu")
+                    && Character.isDigit(line.charAt(3))).count();
+            if (count > 0) {
+                return (int) count;
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.debug("호스트 CPU 수 조회 실패 : {}", e.getMessage());
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    // "MemAvailable:   1234567 kB"
+    private static long parseKilobytes(String line) {
+        return Long.parseLong(line.replaceAll("[^0-9]", ""));
+    }
+}
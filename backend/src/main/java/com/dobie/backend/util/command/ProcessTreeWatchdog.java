@@ -0,0 +1,55 @@
+package com.dobie.backend.util.command;
+
+import org.apache.commons.exec.ExecuteWatchdog;
+import org.apache.commons.exec.Watchdog;
+
+/*
+ * 제한 시간이 지나거나 kill()이 호출되면 프로세스와 자식 프로세스 전체를 강제 종료
+ * 기본 ExecuteWatchdog는 직접 실행한 프로세스만 종료해서 git/docker가 띄운 자식 프로세스(credential helper, buildx 등)가 남는다
+ */
+class ProcessTreeWatchdog extends ExecuteWatchdog {
+
+    private Process process;
+    private boolean killRequested;
+    private boolean timedOut;
+
+    ProcessTreeWatchdog(long timeoutMillis) {
+        super(timeoutMillis);
+    }
+
+    @Override
+    public synchronized void start(Process processToMonitor) {
+        this.process = processToMonitor;
+        super.start(processToMonitor);
+        if (killRequested) {
+            killTree();
+        }
+    }
+
+    @Override
+    public synchronized void timeoutOccured(Watchdog watchdog) {
+        if (process != null && process.isAlive()) {
+            timedOut = true;
+            killTree();
+        }
+        super.timeoutOccured(watchdog);
+    }
+
+    // 작업 취소 시 호출, 아직 프로세스가 시작되기 전이면 시작하자마자 종료한다
+    synchronized void kill() {
+        killRequested = true;
+        if (process != null) {
+            killTree();
+        }
+    }
+
+    synchronized boolean isTimedOut() {
+        return timedOut;
+    }
+
+    private void killTree() {
+        // 부모가 먼저 종료되면 자식 목록을 찾을 수 없으므로 자식부터 종료
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+    }
+}
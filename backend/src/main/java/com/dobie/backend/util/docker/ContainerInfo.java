@@ -0,0 +1,64 @@
+package com.dobie.backend.util.docker;
+
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.api.model.ContainerPort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Engine API 컨테이너 목록 1건 (docker ps 한 줄에 해당)
+ *   name   : 앞의 "/"를 뗀 첫 번째 이름 (docker-compose의 container_name)
+ *   state  : running, exited, created ...
+ *   health : HEALTHCHECK가 없거나 아직 결과가 없으면 null
+ *   ports  : 공개되지 않은 포트 포함 전체 목록 (publicPort가 null이면 공개되지 않은 포트)
+ */
+public record ContainerInfo(String id, String name, String state, String health, List<Port> ports) {
+
+    public record Port(String ip, Integer privatePort, Integer publicPort, String type) {
+    }
+
+    // 이름이 없는 컨테이너면 null
+    public static ContainerInfo from(Container container) {
+        String[] names = container.getNames();
+        if (names == null || names.length == 0) {
+            return null;
+        }
+
+        ContainerPort[] containerPorts = container.getPorts();
+        List<Port> ports = new ArrayList<>(containerPorts == null ? 0 : containerPorts.length);
+        if (containerPorts != null) {
+            for (ContainerPort port : containerPorts) {
+                ports.add(new Port(port.getIp(), port.getPrivatePort(), port.getPublicPort(), port.getType()));
+            }
+        }
+        return new ContainerInfo(container.getId(), stripSlash(names[0]), container.getState(),
+                parseHealth(container.getStatus()), List.copyOf(ports));
+    }
+
+    ContainerState toState() {
+        return new ContainerState(state, health);
+    }
+
+    // "Up 3 minutes (healthy)" -> healthy
+    static String parseHealth(String status) {
+        if (status == null) {
+            return null;
+        }
+        if (status.contains("(healthy)")) {
+            return "healthy";
+        }
+        if (status.contains("(unhealthy)")) {
+            return "unhealthy";
+        }
+        if (status.contains("(health: starting)")) {
+            return "starting";
+        }
+        return null;
+    }
+
+    static String stripSlash(String name) {
+        // Engine API 목록은 이름 앞에 "/"를 붙여서 준다
+        return name.startsWith("/") ? name.substring(1) : name;
+    }
+}
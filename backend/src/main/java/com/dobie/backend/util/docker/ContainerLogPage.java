@@ -0,0 +1,12 @@
+package com.dobie.backend.util.docker;
+
+import java.util.List;
+
+/*
+ * 컨테이너 로그 한 페이지
+ *   nextCursor : 마지막 줄의 timestamp (RFC3339), 다음 요청의 cursor로 넘기면 그 다음 줄부터 조회
+ *                가져온 줄이 없으면 요청한 cursor 그대로
+ *   hasMore    : 같은 구간에 아직 읽지 않은 줄이 남아 있는지 (tail 조회는 항상 false)
+ */
+public record ContainerLogPage(List<String> lines, String nextCursor, boolean hasMore) {
+}
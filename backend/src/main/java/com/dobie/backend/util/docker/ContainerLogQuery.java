@@ -0,0 +1,16 @@
+package com.dobie.backend.util.docker;
+
+/*
+ * 컨테이너 로그 조회 구간 (모두 생략 가능)
+ *   tail   : 마지막 N줄, since/cursor가 없으면 기본값(dobie.docker.logs.default-tail) 적용
+ *   since  : 이 시각(epoch 초) 이후 로그
+ *   until  : 이 시각(epoch 초) 이전 로그
+ *   cursor : 이전 페이지의 nextCursor, 이 로그 다음 줄부터 (tail 무시)
+ *   limit  : 한 번에 가져올 최대 줄 수 (dobie.docker.logs.max-lines 이하)
+ */
+public record ContainerLogQuery(Integer tail, Long since, Long until, String cursor, Integer limit) {
+
+    public static ContainerLogQuery tail(Integer tail) {
+        return new ContainerLogQuery(tail, null, null, null, null);
+    }
+}
@@ -0,0 +1,13 @@
+package com.dobie.backend.util.docker;
+
+// 컨테이너 1개의 상태, health는 HEALTHCHECK가 없거나 아직 결과가 없으면 null
+public record ContainerState(String state, String health) {
+
+    ContainerState withState(String state) {
+        return new ContainerState(state, health);
+    }
+
+    ContainerState withHealth(String health) {
+        return new ContainerState(state, health);
+    }
+}
@@ -0,0 +1,265 @@
+package com.dobie.backend.util.docker;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.api.model.EventType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/*
+ * 컨테이너 이름 -> 상태 메모리 캐시
+ * 시작할 때 Engine API 목록으로 한 번 채우고, 이후에는 docker events 스트림(start, stop, die, health_status 등)으로 갱신한다
+ * 스트림은 response timeout이 없는 dockerEventsClient로 구독한다 (이벤트가 없는 동안에도 끊긴 것으로 보지 않음)
+ * 스트림이 끊기면 reconnect-seconds 후 목록을 다시 읽고 다시 구독한다
+ *   - 목록을 읽기 시작한 시각부터의 이벤트를 구독하므로 다시 읽는 사이에 생긴 변경도 빠지지 않는다
+ * 스트림이 연결되어 있지 않은 동안 isLive()는 false (조회하는 쪽에서 Engine API로 직접 조회)
+ * 상태가 바뀔 때마다 등록된 ContainerStateListener에 알린다 (다시 읽은 목록도 변경으로 알린다)
+ */
+@Component
+@Log4j2
+public class ContainerStateCache {
+
+    private static final String[] WATCHED_EVENTS = {
+            "create", "start", "restart", "stop", "die", "pause", "unpause", "destroy", "rename", "health_status"
+    };
+
+    private final DockerClient dockerClient;
+    private final DockerClient eventsClient;
+    private final boolean enabled;
+    private final long reconnectSeconds;
+
+    private final Map<String, ContainerState> containers = new ConcurrentHashMap<>();
+    // 컨테이너 id -> 이름 (destroy 이벤트에는 이름이 없을 수 있음)
+    private final Map<String, String> names = new ConcurrentHashMap<>();
+    private final List<ContainerStateListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final ScheduledExecutorService reconnector = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "docker-events-reconnect");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean live;
+    private volatile Closeable subscription;
+
+    public ContainerStateCache(DockerClient dockerClient,
+                               @Qualifier("dockerEventsClient") DockerClient eventsClient,
+                               @Value("${dobie.docker.events.enabled:true}") boolean enabled,
+                               @Value("${dobie.docker.events.reconnect-seconds:5}") long reconnectSeconds) {
+        this.dockerClient = dockerClient;
+        this.eventsClient = eventsClient;
+        this.enabled = enabled;
+        this.reconnectSeconds = reconnectSeconds;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            reconnector.execute(this::connect);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reconnector.shutdownNow();
+        closeSubscription();
+    }
+
+    public boolean isLive() {
+        return live;
+    }
+
+    public Map<String, ContainerState> getContainers() {
+        return Collections.unmodifiableMap(containers);
+    }
+
+    // 이름 -> Engine API state 문자열
+    public Map<String, String> getStates() {
+        Map<String, String> states = new HashMap<>();
+        containers.forEach((name, container) -> states.put(name, container.state()));
+        return states;
+    }
+
+    public void addListener(ContainerStateListener listener) {
+        listeners.add(listener);
+    }
+
+    private void connect() {
+        closeSubscription();
+        try {
+            long since = System.currentTimeMillis() / 1000;
+            seed();
+            subscription = eventsClient.eventsCmd()
+                    .withSince(String.valueOf(since))
+                    .withEventTypeFilter(EventType.CONTAINER)
+                    .withEventFilter(WATCHED_EVENTS)
+                    .exec(new EventCallback());
+            live = true;
+            log.info("docker events 구독 시작 : 컨테이너 {}개", containers.size());
+        } catch (RuntimeException e) {
+            log.warn("docker events 구독 실패, {}초 후 다시 시도합니다 : {}", reconnectSeconds, e.getMessage());
+            scheduleReconnect();
+        }
+    }
+
+    private void seed() {
+        List<Container> list = dockerClient.listContainersCmd().withShowAll(true).exec();
+
+        Map<String, ContainerState> seeded = new HashMap<>();
+        Map<String, String> seededNames = new HashMap<>();
+        for (Container container : list) {
+            ContainerInfo info = ContainerInfo.from(container);
+            if (info == null) {
+                continue;
+            }
+            seeded.put(info.name(), info.toState());
+            seededNames.put(info.id(), info.name());
+        }
+
+        List<String> removed = containers.keySet().stream().filter(name -> !seeded.containsKey(name)).toList();
+        containers.keySet().removeAll(removed);
+        containers.putAll(seeded);
+        names.clear();
+        names.putAll(seededNames);
+        removed.forEach(name -> notifyListeners(name, null));
+        seeded.forEach(this::notifyListeners);
+    }
+
+    private void apply(Event event) {
+        String action = event.getAction() != null ? event.getAction() : event.getStatus();
+        if (action == null) {
+            return;
+        }
+
+        Map<String, String> attributes = event.getActor() != null && event.getActor().getAttributes() != null
+                ? event.getActor().getAttributes() : Map.of();
+        String id = event.getId() != null ? event.getId() : event.getActor() != null ? event.getActor().getId() : null;
+        String name = attributes.get("name");
+        if (name == null && id != null) {
+            name = names.get(id);
+        }
+        if (name == null) {
+            return;
+        }
+        name = ContainerInfo.stripSlash(name);
+        if (id != null) {
+            names.put(id, name);
+        }
+
+        if (action.startsWith("health_status")) {
+            // "health_status: healthy"
+            String health = action.substring(action.indexOf(':') + 1).trim();
+            update(name, current -> current.withHealth(health));
+            return;
+        }
+
+        switch (action) {
+            case "create" -> update(name, current -> new ContainerState("created", null));
+            case "start", "restart", "unpause" -> update(name, current -> current.withState("running"));
+            case "pause" -> update(name, current -> current.withState("paused"));
+            // kill은 신호만 보낸 경우(kill -s HUP 등)에도 오므로 보지 않는다, 실제 종료는 die로 온다
+            case "stop", "die" -> update(name, current -> new ContainerState("exited", null));
+            case "destroy" -> {
+                containers.remove(name);
+                if (id != null) {
+                    names.remove(id);
+                }
+                notifyListeners(name, null);
+            }
+            case "rename" -> {
+                String oldName = attributes.get("oldName");
+                if (oldName != null) {
+                    ContainerState state = containers.remove(ContainerInfo.stripSlash(oldName));
+                    notifyListeners(ContainerInfo.stripSlash(oldName), null);
+                    if (state != null) {
+                        containers.put(name, state);
+                        notifyListeners(name, state);
+                    }
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    // 시작 전 목록에 없던 컨테이너면 created 상태에서 변경
+    private void update(String name, UnaryOperator<ContainerState> change) {
+        ContainerState updated = containers.compute(name,
+                (key, current) -> change.apply(current != null ? current : new ContainerState("created", null)));
+        notifyListeners(name, updated);
+    }
+
+    private void notifyListeners(String name, ContainerState state) {
+        for (ContainerStateListener listener : listeners) {
+            try {
+                listener.onChange(name, state);
+            } catch (RuntimeException e) {
+                log.warn("컨테이너 상태 listener 오류 : {}", e.getMessage());
+            }
+        }
+    }
+
+    private void scheduleReconnect() {
+        live = false;
+        if (!reconnector.isShutdown()) {
+            reconnector.schedule(this::connect, reconnectSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    private void closeSubscription() {
+        Closeable current = subscription;
+        subscription = null;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (IOException e) {
+                log.debug("docker events 구독 종료 실패 : {}", e.getMessage());
+            }
+        }
+    }
+
+    private class EventCallback extends ResultCallback.Adapter<Event> {
+
+        @Override
+        public void onNext(Event event) {
+            apply(event);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            log.warn("docker events 스트림 오류 : {}", throwable.getMessage());
+            super.onError(throwable);
+            if (subscription == this) {
+                scheduleReconnect();
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            super.onComplete();
+            if (subscription == this) {
+                log.warn("docker events 스트림이 종료되었습니다");
+                scheduleReconnect();
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.dobie.backend.util.docker;
+
+// ContainerStateCache 변경 알림, docker events 스트림 스레드에서 호출되므로 오래 걸리는 작업은 하지 않는다
+@FunctionalInterface
+public interface ContainerStateListener {
+
+    // state가 null이면 삭제된 컨테이너
+    void onChange(String containerName, ContainerState state);
+}
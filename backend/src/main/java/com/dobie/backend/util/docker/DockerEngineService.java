@@ -0,0 +1,25 @@
+package com.dobie.backend.util.docker;
+
+import java.util.List;
+import java.util.Map;
+
+public interface DockerEngineService {
+
+    void startContainer(String containerName);
+
+    void stopContainer(String containerName);
+
+    void restartContainer(String containerName);
+
+    // 정지된 컨테이너 포함 전체 목록 (id, 이름, 상태, health, 포트)
+    List<ContainerInfo> listContainers();
+
+    // 컨테이너 이름 -> 상태 (running, exited, created ...), 정지된 컨테이너 포함
+    Map<String, String> getContainerStates();
+
+    // 요청한 구간만 Engine API에서 읽는다 (timestamp는 줄에서 떼어내고 nextCursor로 전달)
+    ContainerLogPage readContainerLog(String containerName, ContainerLogQuery query);
+
+    // 해당 경로의 docker-compose.yml로 실행한 컨테이너 중 실행 중인 것이 있는지
+    boolean isComposeProjectRunning(String path);
+}
@@ -0,0 +1,270 @@
+package com.dobie.backend.util.docker;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.LogContainerCmd;
+import com.github.dockerjava.api.exception.NotModifiedException;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.StreamType;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Docker Engine API 호출 (docker-java)
+ * 실패 시 docker-java의 DockerException(RuntimeException)을 그대로 던지므로 호출하는 쪽에서 도메인 예외로 변환한다
+ */
+@Service
+@Log4j2
+public class DockerEngineServiceImpl implements DockerEngineService {
+
+    // docker compose가 컨테이너에 붙이는 label (docker-compose.yml이 있는 디렉토리 절대경로)
+    private static final String COMPOSE_WORKING_DIR_LABEL = "com.docker.compose.project.working_dir";
+
+    private final DockerClient dockerClient;
+    // docker events로 갱신되는 컨테이너 상태
+    private final ContainerStateCache containerStateCache;
+    // 로그 조회 기본 tail, 한 번에 가져오는 최대 줄 수
+    private final int defaultLogTail;
+    private final int maxLogLines;
+
+    public DockerEngineServiceImpl(DockerClient dockerClient,
+                                   ContainerStateCache containerStateCache,
+                                   @Value("${dobie.docker.logs.default-tail:500}") int defaultLogTail,
+                                   @Value("${dobie.docker.logs.max-lines:5000}") int maxLogLines) {
+        this.dockerClient = dockerClient;
+        this.containerStateCache = containerStateCache;
+        this.maxLogLines = maxLogLines;
+        this.defaultLogTail = Math.min(defaultLogTail, maxLogLines);
+    }
+
+    @Override
+    public void startContainer(String containerName) {
+        try {
+            dockerClient.startContainerCmd(containerName).exec();
+        } catch (NotModifiedException e) {
+            // 이미 실행 중 (docker start와 동일하게 성공으로 처리)
+            log.debug("이미 실행 중인 컨테이너 : {}", containerName);
+        }
+    }
+
+    @Override
+    public void stopContainer(String containerName) {
+        try {
+            dockerClient.stopContainerCmd(containerName).exec();
+        } catch (NotModifiedException e) {
+            // 이미 정지됨 (docker stop과 동일하게 성공으로 처리)
+            log.debug("이미 정지된 컨테이너 : {}", containerName);
+        }
+    }
+
+    @Override
+    public void restartContainer(String containerName) {
+        dockerClient.restartContainerCmd(containerName).exec();
+    }
+
+    @Override
+    public List<ContainerInfo> listContainers() {
+        List<Container> containers = dockerClient.listContainersCmd().withShowAll(true).exec();
+
+        List<ContainerInfo> infos = new ArrayList<>(containers.size());
+        for (Container container : containers) {
+            ContainerInfo info = ContainerInfo.from(container);
+            if (info != null) {
+                infos.add(info);
+            }
+        }
+        return infos;
+    }
+
+    // events 스트림이 연결되어 있으면 메모리에서 바로 응답, 끊겨 있으면 Engine API로 조회
+    @Override
+    public Map<String, String> getContainerStates() {
+        if (containerStateCache.isLive()) {
+            return containerStateCache.getStates();
+        }
+
+        Map<String, String> states = new HashMap<>();
+        for (ContainerInfo info : listContainers()) {
+            states.put(info.name(), info.state());
+        }
+        return states;
+    }
+
+    /*
+     * cursor가 있으면 cursor 시각(초 단위)부터 읽고 cursor 이하 줄은 건너뛴다 (같은 초에 찍힌 줄 때문)
+     * tail 조회는 Engine API가 마지막 N줄만 보내주고, since/cursor 조회는 limit + 1줄을 받으면 스트림을 끊는다
+     * (+1줄은 hasMore 확인용)
+     */
+    @Override
+    public ContainerLogPage readContainerLog(String containerName, ContainerLogQuery query) {
+        Instant cursor = parseCursor(query.cursor());
+        int limit = query.limit() != null && query.limit() > 0 ? Math.min(query.limit(), maxLogLines) : maxLogLines;
+
+        Integer tail = null;
+        if (cursor == null) {
+            if (query.tail() != null && query.tail() > 0) {
+                tail = Math.min(query.tail(), limit);
+            } else if (query.since() == null) {
+                tail = Math.min(defaultLogTail, limit);
+            }
+        }
+
+        LogContainerCmd cmd = dockerClient.logContainerCmd(containerName)
+                .withStdOut(true)
+                .withStdErr(true)
+                .withTimestamps(true);
+        if (cursor != null) {
+            cmd.withSince((int) cursor.getEpochSecond());
+        } else if (query.since() != null) {
+            cmd.withSince(query.since().intValue());
+        }
+        if (query.until() != null) {
+            cmd.withUntil(query.until().intValue());
+        }
+        if (tail != null) {
+            cmd.withTail(tail);
+        }
+
+        int pageSize = tail != null ? tail : limit;
+        LogLineCollector collector = new LogLineCollector(cursor, pageSize + 1);
+        try {
+            cmd.exec(collector).awaitCompletion();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("컨테이너 로그 조회가 중단되었습니다 : " + containerName, e);
+        }
+        collector.flush();
+
+        List<LogLine> lines = collector.lines;
+        boolean hasMore = lines.size() > pageSize;
+        if (hasMore) {
+            lines = lines.subList(0, pageSize);
+        }
+
+        List<String> texts = new ArrayList<>(lines.size());
+        lines.forEach(line -> texts.add(line.text()));
+        String nextCursor = lines.isEmpty() ? query.cursor() : lines.get(lines.size() - 1).timestamp();
+        return new ContainerLogPage(texts, nextCursor, hasMore);
+    }
+
+    @Override
+    public boolean isComposeProjectRunning(String path) {
+        String workingDir = Paths.get(path).toAbsolutePath().normalize().toString();
+        List<Container> containers = dockerClient.listContainersCmd()
+                .withShowAll(true)
+                .withLabelFilter(Map.of(COMPOSE_WORKING_DIR_LABEL, workingDir))
+                .exec();
+
+        return containers.stream().anyMatch(container -> "running".equals(container.getState()));
+    }
+
+    // 형식이 잘못된 cursor는 IllegalArgumentException
+    private static Instant parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Instant.parse(cursor);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 로그 cursor 입니다 : " + cursor, e);
+        }
+    }
+
+    private record LogLine(String timestamp, String text) {
+    }
+
+    /*
+     * Engine API 로그 frame -> 줄 단위 (frame 하나에 여러 줄이 오거나 한 줄이 여러 frame으로 나뉠 수 있음)
+     * 줄 맨 앞의 timestamp("2024-01-01T00:00:00.123456789Z ")를 떼어내고, capacity 만큼 모이면 스트림을 닫는다
+     * TTY가 아닌 컨테이너는 stdout/stderr frame이 번갈아 오므로 끊긴 줄은 stream 종류별로 따로 이어붙인다
+     * TTY 컨테이너의 줄 끝 \r은 제거한다
+     */
+    private static class LogLineCollector extends ResultCallback.Adapter<Frame> {
+
+        private final Instant after;
+        private final int capacity;
+        private final List<LogLine> lines = new ArrayList<>();
+        // stream 종류(stdout/stderr/raw) -> 아직 개행이 오지 않은 줄
+        private final Map<StreamType, ByteArrayOutputStream> partials = new EnumMap<>(StreamType.class);
+
+        private LogLineCollector(Instant after, int capacity) {
+            this.after = after;
+            this.capacity = capacity;
+        }
+
+        @Override
+        public void onNext(Frame frame) {
+            byte[] payload = frame.getPayload();
+            if (payload == null || lines.size() >= capacity) {
+                return;
+            }
+
+            StreamType streamType = frame.getStreamType() != null ? frame.getStreamType() : StreamType.RAW;
+            ByteArrayOutputStream partial = partials.computeIfAbsent(streamType, type -> new ByteArrayOutputStream());
+            int start = 0;
+            for (int i = 0; i < payload.length && lines.size() < capacity; i++) {
+                if (payload[i] == '\n') {
+                    partial.write(payload, start, i - start);
+                    emit(partial);
+                    start = i + 1;
+                }
+            }
+            if (lines.size() >= capacity) {
+                try {
+                    close();
+                } catch (IOException e) {
+                    log.debug("컨테이너 로그 스트림 종료 실패 : {}", e.getMessage());
+                }
+                return;
+            }
+            partial.write(payload, start, payload.length - start);
+        }
+
+        // 마지막 줄이 개행 없이 끝난 경우
+        private void flush() {
+            for (ByteArrayOutputStream partial : partials.values()) {
+                if (partial.size() > 0 && lines.size() < capacity) {
+                    emit(partial);
+                }
+            }
+        }
+
+        private void emit(ByteArrayOutputStream partial) {
+            String line = partial.toString(StandardCharsets.UTF_8);
+            partial.reset();
+            if (line.endsWith("\r")) {
+                line = line.substring(0, line.length() - 1);
+            }
+
+            int space = line.indexOf(' ');
+            if (space < 0) {
+                return;
+            }
+            String timestamp = line.substring(0, space);
+            if (after != null) {
+                try {
+                    if (!Instant.parse(timestamp).isAfter(after)) {
+                        return;
+                    }
+                } catch (DateTimeParseException e) {
+                    return;
+                }
+            }
+            lines.add(new LogLine(timestamp, line.substring(space + 1)));
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.dobie.backend.util.file;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * data 디렉토리 파일 외부 수정 감지 (운영자가 /var/dobie/data/*.json 을 직접 수정하는 경우)
+ * 파일 단위로 listener를 등록하면 해당 파일이 생성/수정될 때 호출한다
+ *   - 편집기는 저장 한 번에 여러 이벤트를 만들기 때문에 마지막 이벤트 후 debounce 만큼 기다렸다가 한 번만 호출
+ *   - SnapshotWriter가 쓴 내용 그대로면(서버 자신이 쓴 변경) 호출하지 않는다
+ * dobie.data.watch=false 이면 등록해도 감시하지 않는다
+ */
+@Component
+@Log4j2
+public class DataFileWatcher {
+
+    private final SnapshotWriter snapshotWriter;
+    private final boolean enabled;
+    private final long debounceMillis;
+
+    // 감시 중인 파일 -> 변경 시 호출할 listener
+    private final Map<Path, Runnable> listeners = new ConcurrentHashMap<>();
+    // 등록한 디렉토리 -> WatchKey
+    private final Map<Path, WatchKey> directories = new ConcurrentHashMap<>();
+    // debounce 대기 중인 reload
+    private final Map<Path, ScheduledFuture<?>> pending = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService dispatcher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "data-file-reloader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private WatchService watchService;
+
+    public DataFileWatcher(SnapshotWriter snapshotWriter,
+                           @Value("${dobie.data.watch.enabled:true}") boolean enabled,
+                           @Value("${dobie.data.watch.debounce-millis:300}") long debounceMillis) {
+        this.snapshotWriter = snapshotWriter;
+        this.enabled = enabled;
+        this.debounceMillis = debounceMillis;
+    }
+
+    public synchronized void watch(Path file, Runnable listener) {
+        if (!enabled) {
+            return;
+        }
+
+        Path target = file.toAbsolutePath();
+        Path directory = target.getParent();
+        try {
+            if (watchService == null) {
+                watchService = FileSystems.getDefault().newWatchService();
+                Thread thread = new Thread(this::poll, "data-file-watcher");
+                thread.setDaemon(true);
+                thread.start();
+            }
+            if (!directories.containsKey(directory)) {
+                // 편집기/SnapshotWriter 모두 임시 파일 rename으로 저장할 수 있으므로 CREATE도 감시
+                directories.put(directory, directory.register(watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY));
+            }
+            listeners.put(target, listener);
+            log.info("데이터 파일 감시 시작 : {}", target);
+        } catch (IOException e) {
+            log.error("데이터 파일 감시 등록 실패 : {} ({})", target, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        dispatcher.shutdownNow();
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                log.debug("WatchService 종료 실패 : {}", e.getMessage());
+            }
+        }
+    }
+
+    private void poll() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            Path directory = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    // 이벤트가 유실되었으면 해당 디렉토리의 모든 파일을 다시 확인
+                    listeners.keySet().stream()
+                            .filter(path -> path.getParent().equals(directory))
+                            .forEach(this::schedule);
+                    continue;
+                }
+                Path changed = directory.resolve((Path) event.context());
+                if (listeners.containsKey(changed)) {
+                    schedule(changed);
+                }
+            }
+
+            if (!key.reset()) {
+                directories.remove(directory);
+                log.warn("감시 중인 디렉토리에 접근할 수 없습니다 : {}", directory);
+            }
+        }
+    }
+
+    private void schedule(Path file) {
+        pending.compute(file, (path, previous) -> {
+            if (previous != null) {
+                previous.cancel(false);
+            }
+            return dispatcher.schedule(() -> dispatch(path), debounceMillis, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    private void dispatch(Path file) {
+        pending.remove(file);
+        if (snapshotWriter.isOwnWrite(file)) {
+            return;
+        }
+
+        log.info("데이터 파일 외부 수정 감지, 다시 읽습니다 : {}", file);
+        try {
+            listeners.get(file).run();
+        } catch (RuntimeException e) {
+            log.error("{} 다시 읽기 실패 : {}", file, e.getMessage());
+        }
+    }
+}
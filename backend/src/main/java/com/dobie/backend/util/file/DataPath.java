@@ -0,0 +1,19 @@
+package com.dobie.backend.util.file;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+// data 디렉토리 파일 경로 계산 (로컬 실행이면 src/main/resources, 컨테이너면 /data)
+public class DataPath {
+
+    private static final String BASE_PATH = new File("").getAbsolutePath();
+    private static final String RESOURCE_PATH = "/src/main/resources";
+
+    private DataPath() {
+    }
+
+    public static String resolve(String fileName) {
+        return Files.exists(Paths.get(BASE_PATH + RESOURCE_PATH + fileName)) ? BASE_PATH + RESOURCE_PATH + fileName : BASE_PATH + fileName;
+    }
+}
@@ -0,0 +1,188 @@
+package com.dobie.backend.util.file;
+
+import com.dobie.backend.exception.exception.file.SaveFileFailedException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * data 디렉토리 json 파일 공용 writer
+ * 임시 파일에 쓰고 fsync 한 뒤 원본 위치로 atomic rename 하므로, 읽는 쪽은 항상 완전한 파일만 보게 된다
+ * 같은 파일에 대한 요청이 쓰기 도중 여러 건 들어오면 다음 쓰기 1번(fsync 1번)으로 묶어서 처리한다 (group commit)
+ * 서로 다른 파일은 별도 스레드에서 병렬로 처리된다
+ * 마지막으로 쓴 파일의 수정 시각/크기를 기억해 두어 DataFileWatcher가 자신이 쓴 변경은 건너뛸 수 있게 한다
+ */
+@Component
+@Log4j2
+public class SnapshotWriter {
+
+    private static final int FLUSH_THREADS = 4;
+
+    // flush 시점에 호출되어 그때의 최신 상태를 직렬화 (null을 반환하면 파일 삭제)
+    @FunctionalInterface
+    public interface SnapshotSource {
+        byte[] serialize() throws IOException;
+    }
+
+    private final ConcurrentMap<Path, FileState> files = new ConcurrentHashMap<>();
+
+    // 이 writer가 마지막으로 쓴 파일 상태
+    private final ConcurrentMap<Path, FileStamp> written = new ConcurrentHashMap<>();
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    private final ExecutorService flusher = Executors.newFixedThreadPool(FLUSH_THREADS, r -> {
+        Thread thread = new Thread(r, "snapshot-writer-" + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 파일에 반영(fsync)될 때까지 기다린다
+    public void write(Path target, SnapshotSource source) {
+        try {
+            submit(target, source).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            log.error("{} 저장 실패 : {}", target, cause.getMessage());
+            throw new SaveFileFailedException(cause.getMessage());
+        }
+    }
+
+    // 같은 파일에 대한 쓰기 요청과 순서가 섞이지 않도록 삭제도 같은 큐로 처리
+    public void delete(Path target) {
+        write(target, () -> null);
+    }
+
+    public CompletableFuture<Void> submit(Path target, SnapshotSource source) {
+        FileState state = files.computeIfAbsent(target.toAbsolutePath(), FileState::new);
+        CompletableFuture<Void> future = new CompletableFuture<>();
+
+        boolean schedule;
+        synchronized (state) {
+            state.source = source;
+            state.waiters.add(future);
+            schedule = !state.scheduled;
+            state.scheduled = true;
+        }
+
+        if (schedule) {
+            flusher.execute(() -> flush(state));
+        }
+        return future;
+    }
+
+    // 현재 파일이 이 writer가 마지막으로 쓴 그대로인지 (외부에서 수정했으면 false)
+    public boolean isOwnWrite(Path target) {
+        Path path = target.toAbsolutePath();
+        FileStamp last = written.get(path);
+        if (last == null) {
+            return false;
+        }
+        FileStamp current = FileStamp.of(path);
+        return last.equals(current);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+    }
+
+    // 파일 하나에 대해 쌓인 요청을 모두 처리할 때까지 반복
+    private void flush(FileState state) {
+        while (true) {
+            SnapshotSource source;
+            List<CompletableFuture<Void>> waiters;
+            synchronized (state) {
+                if (state.waiters.isEmpty()) {
+                    state.scheduled = false;
+                    return;
+                }
+                source = state.source;
+                waiters = state.waiters;
+                state.source = null;
+                state.waiters = new ArrayList<>();
+            }
+
+            try {
+                byte[] contents = source.serialize();
+                if (contents == null) {
+                    Files.deleteIfExists(state.path);
+                    written.remove(state.path);
+                } else {
+                    writeAtomically(state.path, contents);
+                    written.put(state.path, FileStamp.of(state.path));
+                }
+                waiters.forEach(waiter -> waiter.complete(null));
+            } catch (Exception e) {
+                waiters.forEach(waiter -> waiter.completeExceptionally(e));
+            }
+        }
+    }
+
+    private void writeAtomically(Path target, byte[] contents) throws IOException {
+        Path directory = target.getParent();
+        Files.createDirectories(directory);
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(contents);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        // rename 자체도 디스크에 남도록 디렉토리 fsync (지원하지 않는 파일시스템이면 무시)
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            log.debug("디렉토리 fsync 미지원 : {}", directory);
+        }
+    }
+
+    private static class FileState {
+        private final Path path;
+        private SnapshotSource source;
+        private List<CompletableFuture<Void>> waiters = new ArrayList<>();
+        private boolean scheduled;
+
+        private FileState(Path path) {
+            this.path = path;
+        }
+    }
+
+    private record FileStamp(FileTime modified, long size) {
+
+        // 파일이 없으면 null
+        private static FileStamp of(Path path) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                return new FileStamp(attributes.lastModifiedTime(), attributes.size());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+}
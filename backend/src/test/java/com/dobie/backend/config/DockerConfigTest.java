@@ -0,0 +1,114 @@
+package com.dobie.backend.config;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.model.Event;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DockerConfigTest {
+
+    // /events 요청에 응답 헤더만 보내고 이벤트 없이 연결을 유지하는 Engine
+    private ServerSocket server;
+    private final List<Socket> connections = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(() -> {
+            while (!server.isClosed()) {
+                try {
+                    Socket socket = server.accept();
+                    connections.add(socket);
+                    Thread handler = new Thread(() -> serve(socket));
+                    handler.setDaemon(true);
+                    handler.start();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        });
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.close();
+        for (Socket socket : connections) {
+            socket.close();
+        }
+    }
+
+    private void serve(Socket socket) {
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            String line;
+            while ((line = reader.readLine()) != null && !line.isEmpty()) {
+                // 요청 헤더는 읽고 버린다
+            }
+            OutputStream out = socket.getOutputStream();
+            out.write(("HTTP/1.1 200 OK\r\n"
+                    + "Content-Type: application/json\r\n"
+                    + "Transfer-Encoding: chunked\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            // client가 끊을 때까지 대기
+            while (reader.read() != -1) {
+            }
+        } catch (IOException ignored) {
+        }
+    }
+
+    private String host() {
+        return "tcp://127.0.0.1:" + server.getLocalPort();
+    }
+
+    private static class ErrorRecorder extends ResultCallback.Adapter<Event> {
+
+        private final CountDownLatch failed = new CountDownLatch(1);
+
+        @Override
+        public void onError(Throwable throwable) {
+            failed.countDown();
+            super.onError(throwable);
+        }
+    }
+
+    @Test
+    void responseTimeoutFailsIdleEventStream() throws Exception {
+        try (DockerClient client = DockerConfig.createClient(host(), 2, Duration.ofMillis(300))) {
+            ErrorRecorder events = client.eventsCmd().exec(new ErrorRecorder());
+
+            assertThat(events.failed.await(5, TimeUnit.SECONDS)).isTrue();
+            events.close();
+        }
+    }
+
+    @Test
+    void eventsClientKeepsIdleStreamOpen() throws Exception {
+        try (DockerClient client = DockerConfig.createClient(host(), 2, null)) {
+            ErrorRecorder events = client.eventsCmd().exec(new ErrorRecorder());
+
+            // 일반 client가 실패하는 시간(300ms)보다 오래 이벤트가 없어도 스트림 오류가 아니다
+            assertThat(events.failed.await(1500, TimeUnit.MILLISECONDS)).isFalse();
+            events.close();
+        }
+    }
+}
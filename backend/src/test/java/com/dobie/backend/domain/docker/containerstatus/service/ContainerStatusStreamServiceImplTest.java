@@ -0,0 +1,84 @@
+package com.dobie.backend.domain.docker.containerstatus.service;
+
+import com.dobie.backend.domain.docker.dockerfile.service.DockerfileService;
+import com.dobie.backend.domain.project.entity.Project;
+import com.dobie.backend.domain.project.repository.ProjectRepository;
+import com.dobie.backend.exception.exception.project.ProjectNotFoundException;
+import com.dobie.backend.util.docker.ContainerState;
+import com.dobie.backend.util.docker.ContainerStateCache;
+import com.dobie.backend.util.docker.ContainerStateListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ContainerStatusStreamServiceImplTest {
+
+    private final DockerfileService dockerfileService = mock(DockerfileService.class);
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final ContainerStateCache containerStateCache = mock(ContainerStateCache.class);
+    // 첫 상태 계산을 붙잡아 두고 그 사이 변경을 쌓는다
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private ContainerStatusStreamServiceImpl service;
+    private ContainerStateListener listener;
+
+    @BeforeEach
+    void setUp() {
+        Project project = mock(Project.class);
+        when(project.getProjectId()).thenReturn("p1");
+        when(projectRepository.existsProject("p1")).thenReturn(true);
+        when(projectRepository.searchProjectByServiceId(anyString())).thenReturn(project);
+        when(dockerfileService.dockerContainerLister("p1")).thenAnswer(invocation -> {
+            release.await(2, TimeUnit.SECONDS);
+            return new HashMap<>();
+        });
+
+        service = new ContainerStatusStreamServiceImpl(dockerfileService, projectRepository, containerStateCache, 30);
+        service.register();
+        ArgumentCaptor<ContainerStateListener> captor = ArgumentCaptor.forClass(ContainerStateListener.class);
+        verify(containerStateCache).addListener(captor.capture());
+        listener = captor.getValue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void coalescesChangesIntoOnePendingPublish() {
+        service.subscribe("p1");
+        // 구독 직후 첫 상태 계산 중
+        verify(dockerfileService, timeout(2000)).dockerContainerLister("p1");
+
+        // 목록을 다시 읽으면서 컨테이너마다 변경이 온 상황
+        for (int i = 0; i < 10; i++) {
+            listener.onChange("service-" + i, new ContainerState("running", null));
+        }
+        release.countDown();
+
+        verify(dockerfileService, timeout(2000).times(2)).dockerContainerLister("p1");
+        verify(dockerfileService, after(200).times(2)).dockerContainerLister("p1");
+    }
+
+    @Test
+    void rejectsUnknownProjectWithoutListingContainers() {
+        assertThatThrownBy(() -> service.subscribe("unknown")).isInstanceOf(ProjectNotFoundException.class);
+
+        verify(dockerfileService, never()).dockerContainerLister(anyString());
+    }
+}
@@ -0,0 +1,194 @@
+package com.dobie.backend.domain.project.repository;
+
+import com.dobie.backend.config.JsonConfig;
+import com.dobie.backend.domain.project.entity.Backend;
+import com.dobie.backend.domain.project.entity.Project;
+import com.dobie.backend.domain.project.entity.SettingFile;
+import com.dobie.backend.domain.project.repository.store.ProjectStore;
+import com.dobie.backend.exception.exception.file.SaveFileFailedException;
+import com.dobie.backend.exception.exception.project.ProjectUpdateConflictException;
+import com.dobie.backend.util.file.DataFileWatcher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProjectRepositoryTest {
+
+    private final ObjectMapper mapper = new JsonConfig().objectMapper();
+    private final ProjectStore projectStore = mock(ProjectStore.class);
+    private ProjectRepository projectRepository;
+
+    @BeforeEach
+    void setUp() {
+        when(projectStore.loadAll()).thenReturn(new HashMap<>());
+        projectRepository = new ProjectRepository(projectStore, mapper, mock(DataFileWatcher.class));
+        projectRepository.loadProjects();
+        projectRepository.upsertProject(project("p1"));
+    }
+
+    private static Project project(String projectId) {
+        Backend backend = new Backend(projectId + "-api", "api", "java", "17", "spring",
+                "/backend", "main", "backend", 8080, 8080);
+        return new Project(projectId, "dobie", null, false, null,
+                Map.of(backend.getServiceId(), backend), null, Map.of(), new HashMap<>(), 0);
+    }
+
+    // 파일 하나를 추가한 복사본
+    private static Project withFile(Project project, String fileId) {
+        Map<String, SettingFile> files = new HashMap<>(project.getFileMap());
+        files.put(fileId, new SettingFile(fileId, "/", fileId));
+        return project.withFileMap(files);
+    }
+
+    @Test
+    void compareAndSetRejectsStaleVersion() {
+        Project stale = projectRepository.searchProject("p1");
+        long version = stale.getVersion();
+
+        assertThat(projectRepository.compareAndSetProject(version, withFile(projectRepository.searchProject("p1"), "a")))
+                .isTrue();
+        assertThat(projectRepository.compareAndSetProject(version, withFile(stale, "b"))).isFalse();
+
+        Project saved = projectRepository.searchProject("p1");
+        assertThat(saved.getVersion()).isEqualTo(version + 1);
+        assertThat(saved.getFileMap()).containsOnlyKeys("a");
+    }
+
+    @Test
+    void compareAndSetRejectsMissingProject() {
+        assertThat(projectRepository.compareAndSetProject(1, project("unknown"))).isFalse();
+        assertThat(projectRepository.existsProject("unknown")).isFalse();
+    }
+
+    @Test
+    void modifyProjectReappliesChangeAfterConflict() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        Project updated = projectRepository.modifyProject("p1", project -> {
+            if (attempts.incrementAndGet() == 1) {
+                // 첫 시도 도중 다른 요청이 먼저 반영
+                projectRepository.modifyProject("p1", other -> withFile(other, "other"));
+            }
+            return withFile(project, "mine");
+        });
+
+        assertThat(attempts).hasValue(2);
+        assertThat(updated.getFileMap()).containsOnlyKeys("other", "mine");
+        assertThat(projectRepository.searchProject("p1").getFileMap()).containsOnlyKeys("other", "mine");
+        // upsert 1 + 다른 요청 1 + 재시도 1
+        assertThat(projectRepository.searchProject("p1").getVersion()).isEqualTo(3);
+    }
+
+    @Test
+    void modifyProjectGivesUpAfterRepeatedConflicts() {
+        assertThatThrownBy(() -> projectRepository.modifyProject("p1", project -> {
+            projectRepository.upsertProject(projectRepository.searchProject("p1"));
+            return withFile(project, "mine");
+        })).isInstanceOf(ProjectUpdateConflictException.class);
+
+        assertThat(projectRepository.searchProject("p1").getFileMap()).isEmpty();
+    }
+
+    @Test
+    void modifyProjectReturnsNullForMissingProject() {
+        assertThat(projectRepository.modifyProject("unknown", project -> project)).isNull();
+    }
+
+    @Test
+    void readsShareFrozenProjectsWithoutCopying() {
+        Project cached = projectRepository.searchProject("p1");
+
+        assertThat(projectRepository.selectProjects().get("p1")).isSameAs(cached);
+        assertThatThrownBy(() -> cached.getFileMap().put("x", new SettingFile("x", "/", "x")))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> cached.getBackendMap().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void savedProjectIsDetachedFromCallerMaps() {
+        Map<String, SettingFile> files = new HashMap<>();
+        Project saved = projectRepository.upsertProject(project("p1").withFileMap(files));
+        files.put("late", new SettingFile("late", "/", "late"));
+
+        assertThat(projectRepository.searchProject("p1")).isSameAs(saved);
+        assertThat(saved.getFileMap()).isEmpty();
+    }
+
+    @Test
+    void modifyProjectChangesACopyAndReplacesTheCachedProject() {
+        Project before = projectRepository.searchProject("p1");
+
+        Project updated = projectRepository.modifyProject("p1", project -> {
+            project.getFileMap().put("a", new SettingFile("a", "/", "a"));
+            return project;
+        });
+
+        assertThat(before.getFileMap()).isEmpty();
+        assertThat(updated.getVersion()).isEqualTo(before.getVersion() + 1);
+        assertThat(projectRepository.searchProject("p1")).isSameAs(updated);
+        assertThat(updated.getFileMap()).containsOnlyKeys("a");
+    }
+
+    @Test
+    void watchesAndReloadsExternalSource() throws Exception {
+        ProjectStore.ExternalSource source = mock(ProjectStore.ExternalSource.class);
+        when(source.file()).thenReturn(Path.of("project.json"));
+        ProjectStore store = mock(ProjectStore.class);
+        when(store.loadAll()).thenReturn(Map.of("p1", project("p1")));
+        when(store.externalSource()).thenReturn(Optional.of(source));
+        DataFileWatcher watcher = mock(DataFileWatcher.class);
+
+        ProjectRepository repository = new ProjectRepository(store, mapper, watcher);
+        repository.loadProjects();
+        ArgumentCaptor<Runnable> onChange = ArgumentCaptor.forClass(Runnable.class);
+        verify(watcher).watch(eq(Path.of("project.json")), onChange.capture());
+
+        // 운영자가 p1에 파일을 추가하고 p2를 새로 적은 상황
+        Project edited = project("p1").withFileMap(Map.of("f", new SettingFile("f", "/", "f")));
+        when(source.reload()).thenReturn(Map.of("p1", edited, "p2", project("p2")));
+        onChange.getValue().run();
+
+        assertThat(repository.searchProject("p1").getFileMap()).containsOnlyKeys("f");
+        assertThat(repository.searchProject("p1").getVersion()).isEqualTo(1);
+        assertThat(repository.existsProject("p2")).isTrue();
+    }
+
+    @Test
+    void failedStoreWriteRollsBackMemoryAndIndex() {
+        long generation = projectRepository.getGeneration();
+        doThrow(new SaveFileFailedException("disk full")).when(projectStore).writeProject(any(), anyMap());
+
+        Project changed = new Project("p1", "dobie", null, false, null, Map.of(), null, Map.of(), new HashMap<>(), 0);
+        assertThatThrownBy(() -> projectRepository.upsertProject(changed))
+                .isInstanceOf(SaveFileFailedException.class);
+
+        Project current = projectRepository.searchProject("p1");
+        assertThat(current.getVersion()).isEqualTo(1);
+        assertThat(current.getBackendMap()).containsOnlyKeys("p1-api");
+        assertThat(projectRepository.searchProjectByServiceId("p1-api").getProjectId()).isEqualTo("p1");
+        assertThat(projectRepository.getGeneration()).isGreaterThan(generation);
+
+        doNothing().when(projectStore).writeProject(any(), anyMap());
+        projectRepository.upsertProject(withFile(projectRepository.searchProject("p1"), "a"));
+        assertThat(projectRepository.searchProject("p1").getVersion()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,134 @@
+package com.dobie.backend.domain.project.repository.store;
+
+import com.dobie.backend.config.JsonConfig;
+import com.dobie.backend.domain.project.entity.Project;
+import com.dobie.backend.util.file.SnapshotWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.dobie.backend.domain.project.repository.store.ProjectCodecTest.project;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JournalProjectStoreTest {
+
+    private static final ObjectMapper mapper = new JsonConfig().objectMapper();
+
+    @TempDir
+    Path dataDir;
+
+    private final SnapshotWriter snapshotWriter = new SnapshotWriter();
+    private final List<JournalProjectStore> stores = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        stores.forEach(JournalProjectStore::close);
+        snapshotWriter.shutdown();
+    }
+
+    // 테스트 도중 compaction이 일어나지 않도록 간격/기준을 크게 잡는다
+    private JournalProjectStore open(ProjectCodec codec) {
+        JournalProjectStore store = new JournalProjectStore(mapper, codec, snapshotWriter,
+                dataDir.resolve("project.json"), 3600, 1000);
+        stores.add(store);
+        return store;
+    }
+
+    private Path logFile(ProjectCodec codec) {
+        return dataDir.resolve("project." + codec.getExtension() + ".log");
+    }
+
+    @ParameterizedTest
+    @MethodSource("com.dobie.backend.domain.project.repository.store.ProjectCodecTest#codecs")
+    void replaysJournalOnRestart(ProjectCodec codec) {
+        JournalProjectStore store = open(codec);
+        Map<String, Project> projects = new HashMap<>(store.loadAll());
+
+        projects.put("p1", project("p1"));
+        store.writeProject(projects.get("p1"), projects);
+        projects.put("p2", project("p2"));
+        store.writeProject(projects.get("p2"), projects);
+        projects.remove("p1");
+        store.removeProject("p1", projects);
+
+        // compaction 전이므로 변경은 로그에만 있다
+        assertThat(logFile(codec)).isNotEmptyFile();
+
+        Map<String, Project> reloaded = open(codec).loadAll();
+        assertThat(reloaded).containsOnlyKeys("p2");
+        assertThat(mapper.valueToTree(reloaded.get("p2"))).isEqualTo(mapper.valueToTree(project("p2")));
+    }
+
+    @Test
+    void ignoresTruncatedLastRecord() throws Exception {
+        ProjectCodec codec = new JsonProjectCodec(mapper);
+        JournalProjectStore store = open(codec);
+        Map<String, Project> projects = new HashMap<>(store.loadAll());
+
+        projects.put("p1", project("p1"));
+        store.writeProject(projects.get("p1"), projects);
+        long firstRecordEnd = Files.size(logFile(codec));
+        projects.put("p2", project("p2"));
+        store.writeProject(projects.get("p2"), projects);
+
+        // 두 번째 레코드를 기록하던 중 종료된 상황
+        try (RandomAccessFile file = new RandomAccessFile(logFile(codec).toFile(), "rw")) {
+            file.setLength(firstRecordEnd + (file.length() - firstRecordEnd) / 2);
+        }
+
+        Map<String, Project> reloaded = open(codec).loadAll();
+        assertThat(reloaded).containsOnlyKeys("p1");
+    }
+
+    @Test
+    void ignoresRecordWithOnlyPartialLength() throws Exception {
+        ProjectCodec codec = new JsonProjectCodec(mapper);
+        JournalProjectStore store = open(codec);
+        Map<String, Project> projects = new HashMap<>(store.loadAll());
+
+        projects.put("p1", project("p1"));
+        store.writeProject(projects.get("p1"), projects);
+        Files.write(logFile(codec), new byte[]{0, 0}, StandardOpenOption.APPEND);
+
+        assertThat(open(codec).loadAll()).containsOnlyKeys("p1");
+    }
+
+    @Test
+    void compactsJournalIntoSnapshotOnClose() throws Exception {
+        ProjectCodec codec = new JsonProjectCodec(mapper);
+        JournalProjectStore store = open(codec);
+        Map<String, Project> projects = new HashMap<>(store.loadAll());
+        projects.put("p1", project("p1"));
+        store.writeProject(projects.get("p1"), projects);
+
+        store.close();
+
+        assertThat(logFile(codec)).isEmptyFile();
+        Path snapshot = dataDir.resolve("project.json");
+        assertThat(ProjectFiles.read(snapshot, mapper)).containsOnlyKeys("p1");
+        assertThat(open(codec).loadAll()).containsOnlyKeys("p1");
+    }
+
+    @Test
+    void readsLegacyJsonWhenSmileSnapshotIsMissing() throws Exception {
+        Files.write(dataDir.resolve("project.json"),
+                mapper.writeValueAsBytes(Map.of("p1", project("p1"))));
+
+        ProjectCodec smile = new SmileProjectCodec();
+        Map<String, Project> loaded = open(smile).loadAll();
+
+        assertThat(loaded).containsOnlyKeys("p1");
+    }
+}
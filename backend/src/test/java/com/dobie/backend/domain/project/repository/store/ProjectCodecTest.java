@@ -0,0 +1,76 @@
+package com.dobie.backend.domain.project.repository.store;
+
+import com.dobie.backend.config.JsonConfig;
+import com.dobie.backend.domain.project.entity.Backend;
+import com.dobie.backend.domain.project.entity.Git;
+import com.dobie.backend.domain.project.entity.Project;
+import com.dobie.backend.domain.project.entity.SettingFile;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectCodecTest {
+
+    private static final ObjectMapper mapper = new JsonConfig().objectMapper();
+
+    static Stream<ProjectCodec> codecs() {
+        return Stream.of(new JsonProjectCodec(mapper), new SmileProjectCodec());
+    }
+
+    static Project project(String projectId) {
+        Backend backend = new Backend(projectId + "-api", "api", "java", "17", "spring",
+                "/backend", "main", "backend", 8080, 8080);
+        return new Project(projectId, "dobie", projectId + ".dobie.com", true,
+                new Git(1, "https://github.com/dobie/dobie.git", "main", "token"),
+                Map.of(backend.getServiceId(), backend), null, Map.of(),
+                Map.of("f1", new SettingFile("f1", "/backend/src/main/resources", "application.yml")), 3);
+    }
+
+    @ParameterizedTest
+    @MethodSource("codecs")
+    void snapshotRoundTrip(ProjectCodec codec) throws Exception {
+        Map<String, Project> projects = Map.of("p1", project("p1"), "p2", project("p2"));
+
+        byte[] bytes = codec.getWriter().writeValueAsBytes(projects);
+        Map<String, Project> read = codec.getMapper().readValue(bytes, new TypeReference<Map<String, Project>>() {});
+
+        assertThat(mapper.valueToTree(read)).isEqualTo(mapper.valueToTree(projects));
+        assertThat(read.get("p1").getVersion()).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @MethodSource("codecs")
+    void journalRecordRoundTrip(ProjectCodec codec) throws Exception {
+        JournalRecord put = new JournalRecord(JournalRecord.PUT, "p1", project("p1"));
+        JournalRecord delete = new JournalRecord(JournalRecord.DELETE, "p1", null);
+
+        JournalRecord readPut = codec.getMapper().readValue(codec.getMapper().writeValueAsBytes(put), JournalRecord.class);
+        JournalRecord readDelete = codec.getMapper().readValue(codec.getMapper().writeValueAsBytes(delete), JournalRecord.class);
+
+        assertThat(readPut.getOp()).isEqualTo(JournalRecord.PUT);
+        assertThat(mapper.valueToTree(readPut.getProject())).isEqualTo(mapper.valueToTree(put.getProject()));
+        assertThat(readDelete.getOp()).isEqualTo(JournalRecord.DELETE);
+        assertThat(readDelete.getProject()).isNull();
+    }
+
+    @Test
+    void jsonSnapshotIsReadableJsonAndSmileIsNot() throws Exception {
+        Map<String, Project> projects = Map.of("p1", project("p1"));
+
+        byte[] json = new JsonProjectCodec(mapper).getWriter().writeValueAsBytes(projects);
+        byte[] smile = new SmileProjectCodec().getWriter().writeValueAsBytes(projects);
+
+        // 기존 project.json을 그대로 읽을 수 있어야 한다
+        assertThat(mapper.readTree(json).get("p1").get("projectDomain").asText()).isEqualTo("p1.dobie.com");
+        // Smile 헤더 ":)\n"
+        assertThat(new String(smile, 0, 3, StandardCharsets.ISO_8859_1)).isEqualTo(":)\n");
+    }
+}
@@ -0,0 +1,107 @@
+package com.dobie.backend.domain.project.repository.store;
+
+import com.dobie.backend.config.JsonConfig;
+import com.dobie.backend.domain.project.entity.Project;
+import com.dobie.backend.util.file.SnapshotWriter;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.dobie.backend.domain.project.repository.store.ProjectCodecTest.project;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardedProjectStoreTest {
+
+    private static final ObjectMapper mapper = new JsonConfig().objectMapper();
+
+    @TempDir
+    Path dataDir;
+
+    private final SnapshotWriter snapshotWriter = new SnapshotWriter();
+
+    @AfterEach
+    void tearDown() {
+        snapshotWriter.shutdown();
+    }
+
+    private ShardedProjectStore open(ProjectCodec codec) {
+        return new ShardedProjectStore(mapper, codec, snapshotWriter, dataDir.resolve("project.json"));
+    }
+
+    private Path shardDir() {
+        return dataDir.resolve("projects");
+    }
+
+    @Test
+    void migratesLegacyFileIntoShards() throws Exception {
+        Path legacy = dataDir.resolve("project.json");
+        byte[] legacyContents = mapper.writeValueAsBytes(Map.of("p1", project("p1"), "p2", project("p2")));
+        Files.write(legacy, legacyContents);
+
+        Map<String, Project> loaded = open(new JsonProjectCodec(mapper)).loadAll();
+
+        assertThat(loaded).containsOnlyKeys("p1", "p2");
+        assertThat(shardDir().resolve("p1.json")).exists();
+        assertThat(shardDir().resolve("p2.json")).exists();
+        assertThat(mapper.readValue(shardDir().resolve("index.json").toFile(), new TypeReference<List<String>>() {}))
+                .containsExactly("p1", "p2");
+        // 기존 파일은 그대로 둔다
+        assertThat(Files.readAllBytes(legacy)).isEqualTo(legacyContents);
+
+        // 두 번째 실행부터는 index.json 기준으로 읽는다
+        Map<String, Project> reloaded = open(new JsonProjectCodec(mapper)).loadAll();
+        assertThat(mapper.valueToTree(reloaded)).isEqualTo(mapper.valueToTree(loaded));
+    }
+
+    @Test
+    void writesAndRemovesOnlyTheChangedShard() throws Exception {
+        ShardedProjectStore store = open(new JsonProjectCodec(mapper));
+        Map<String, Project> projects = new HashMap<>(store.loadAll());
+
+        projects.put("p1", project("p1"));
+        store.writeProject(projects.get("p1"), projects);
+        projects.put("p2", project("p2"));
+        store.writeProject(projects.get("p2"), projects);
+        projects.remove("p1");
+        store.removeProject("p1", projects);
+
+        assertThat(shardDir().resolve("p1.json")).doesNotExist();
+        assertThat(shardDir().resolve("p2.json")).exists();
+        assertThat(open(new JsonProjectCodec(mapper)).loadAll()).containsOnlyKeys("p2");
+    }
+
+    @Test
+    void readsJsonShardAfterSwitchingToSmile() {
+        ShardedProjectStore jsonStore = open(new JsonProjectCodec(mapper));
+        Map<String, Project> projects = new HashMap<>(jsonStore.loadAll());
+        projects.put("p1", project("p1"));
+        jsonStore.writeProject(projects.get("p1"), projects);
+
+        ShardedProjectStore smileStore = open(new SmileProjectCodec());
+        Map<String, Project> loaded = new HashMap<>(smileStore.loadAll());
+        assertThat(loaded).containsOnlyKeys("p1");
+
+        // 다음 변경부터 새 형식으로 저장
+        smileStore.writeProject(loaded.get("p1"), loaded);
+        assertThat(shardDir().resolve("p1.smile")).exists();
+    }
+
+    @Test
+    void rejectsProjectIdThatEscapesShardDirectory() {
+        ShardedProjectStore store = open(new JsonProjectCodec(mapper));
+        store.loadAll();
+        Project project = project("../p1");
+
+        assertThatThrownBy(() -> store.writeProject(project, Map.of("../p1", project)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
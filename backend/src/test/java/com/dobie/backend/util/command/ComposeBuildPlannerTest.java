@@ -0,0 +1,179 @@
+package com.dobie.backend.util.command;
+
+import com.dobie.backend.config.JsonConfig;
+import com.dobie.backend.util.file.SnapshotWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ComposeBuildPlannerTest {
+
+    private static final String COMPOSE = """
+            services:
+              backend:
+                container_name: api
+                build:
+                  context: ./backend
+              frontend:
+                container_name: web
+                build:
+                  context: ./frontend
+              db:
+                image: mysql:8
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    private Path project;
+    private final SnapshotWriter snapshotWriter = new SnapshotWriter();
+    private ComposeBuildPlanner planner;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        project = tempDir.resolve("dobie");
+        write("docker-compose.yml", COMPOSE);
+        write("README.md", "dobie");
+        write("backend/Dockerfile", "FROM openjdk:17");
+        write("backend/src/Main.java", "class Main {}");
+        write("backend/build/libs/app.jar", "jar-1");
+        write("backend/.dockerignore", "build\n*.log\n!keep.log\n");
+        write("frontend/Dockerfile", "FROM node:20");
+        write("frontend/src/index.js", "console.log(1)");
+
+        CommandExecutor commandExecutor = mock(CommandExecutor.class);
+        when(commandExecutor.execute(eq(CommandType.GIT), anyString())).thenReturn(new CommandResult(0, "abc123\n", null));
+        planner = new ComposeBuildPlanner(commandExecutor, snapshotWriter, new JsonConfig().objectMapper(),
+                true, tempDir.resolve("build-state"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        snapshotWriter.shutdown();
+    }
+
+    private void write(String relative, String contents) throws IOException {
+        Path file = project.resolve(relative);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, contents);
+    }
+
+    // 현재 상태로 빌드했다고 기록
+    private void recordBuild() {
+        planner.record(project.toString(), planner.plan(project.toString()));
+    }
+
+    @Test
+    void buildsEveryServiceWithBuildContextFirstTime() {
+        ComposeBuildPlan plan = planner.plan(project.toString());
+
+        assertThat(plan.services()).containsOnlyKeys("backend", "frontend");
+        assertThat(plan.buildServices()).containsExactly("backend", "frontend");
+        assertThat(plan.services().get("backend").commit()).isEqualTo("abc123");
+    }
+
+    @Test
+    void skipsEverythingWhenNothingChanged() throws IOException {
+        recordBuild();
+        // context 밖의 파일만 바뀐 push
+        write("README.md", "changed");
+
+        assertThat(planner.plan(project.toString()).buildServices()).isEmpty();
+    }
+
+    @Test
+    void rebuildsOnlyTheServiceWhoseContextChanged() throws IOException {
+        recordBuild();
+        write("frontend/src/index.js", "console.log(2)");
+
+        assertThat(planner.plan(project.toString()).buildServices()).containsExactly("frontend");
+    }
+
+    @Test
+    void ignoresFilesExcludedByDockerignore() throws IOException {
+        recordBuild();
+        write("backend/build/libs/app.jar", "jar-2");
+        write("backend/server.log", "log");
+
+        assertThat(planner.plan(project.toString()).buildServices()).isEmpty();
+    }
+
+    @Test
+    void dockerignoreExceptionsAndDockerfileStillCount() throws IOException {
+        recordBuild();
+        // *.log 이지만 !keep.log로 다시 포함
+        write("backend/keep.log", "kept");
+        assertThat(planner.plan(project.toString()).buildServices()).containsExactly("backend");
+
+        recordBuild();
+        write("backend/.dockerignore", "build\n");
+        assertThat(planner.plan(project.toString()).buildServices()).containsExactly("backend");
+    }
+
+    @Test
+    void untrackedGeneratedFilesCount() throws IOException {
+        recordBuild();
+        write("backend/src/main/resources/application.yml", "server.port: 8080");
+
+        assertThat(planner.plan(project.toString()).buildServices()).containsExactly("backend");
+    }
+
+    @Test
+    void rebuildsWhenComposeServiceSettingChanged() throws IOException {
+        recordBuild();
+        write("docker-compose.yml", COMPOSE.replace("container_name: api", "container_name: api2"));
+
+        assertThat(planner.plan(project.toString()).buildServices()).containsExactly("backend");
+    }
+
+    @Test
+    void rebuildsEverythingAfterImagesAreRemoved() {
+        recordBuild();
+        // compose down --rmi all 로 이미지가 지워진 상황
+        planner.forget(project.toString());
+
+        assertThat(planner.plan(project.toString()).buildServices()).containsExactly("backend", "frontend");
+        assertThat(tempDir.resolve("build-state").resolve("dobie.json")).doesNotExist();
+    }
+
+    @Test
+    void ignoresWorktreeAndGitDirectories() throws IOException {
+        write("docker-compose.yml", """
+                services:
+                  app:
+                    build:
+                      context: .
+                """);
+        recordBuild();
+        write(".git/index", "changed");
+        write(".worktrees/dev/backend/Main.java", "changed");
+
+        assertThat(planner.plan(project.toString()).buildServices()).isEmpty();
+    }
+
+    @Test
+    void fallsBackToFullBuildWhenDisabled() {
+        ComposeBuildPlanner disabled = new ComposeBuildPlanner(mock(CommandExecutor.class), snapshotWriter,
+                new JsonConfig().objectMapper(), false, tempDir.resolve("build-state"));
+
+        assertThat(disabled.plan(project.toString()).buildServices()).isNull();
+    }
+
+    @Test
+    void fallsBackToFullBuildWithoutComposeFile() throws IOException {
+        Files.delete(project.resolve("docker-compose.yml"));
+
+        assertThat(planner.plan(project.toString()).buildServices()).isNull();
+    }
+}
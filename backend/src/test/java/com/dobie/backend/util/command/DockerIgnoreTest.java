@@ -0,0 +1,66 @@
+package com.dobie.backend.util.command;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DockerIgnoreTest {
+
+    private final DockerIgnore dockerIgnore = DockerIgnore.parse(List.of(
+            "# 주석",
+            "",
+            "build",
+            "**/node_modules",
+            "*.log",
+            "!keep.log",
+            "/out/",
+            "docs/**/*.md",
+            "Dockerfile"));
+
+    @Test
+    void matchesPatternsAndTheirParents() {
+        assertThat(dockerIgnore.excluded("build")).isTrue();
+        assertThat(dockerIgnore.excluded("build/libs/app.jar")).isTrue();
+        assertThat(dockerIgnore.excluded("out/index.html")).isTrue();
+        assertThat(dockerIgnore.excluded("src/build/Main.java")).isFalse();
+        assertThat(dockerIgnore.excluded("src/Main.java")).isFalse();
+    }
+
+    @Test
+    void starStaysInOneDirectoryAndDoubleStarCrossesThem() {
+        assertThat(dockerIgnore.excluded("server.log")).isTrue();
+        assertThat(dockerIgnore.excluded("logs/server.log")).isFalse();
+        assertThat(dockerIgnore.excluded("node_modules/react/index.js")).isTrue();
+        assertThat(dockerIgnore.excluded("web/node_modules/react/index.js")).isTrue();
+        assertThat(dockerIgnore.excluded("docs/a.md")).isTrue();
+        assertThat(dockerIgnore.excluded("docs/api/v1/a.md")).isTrue();
+        assertThat(dockerIgnore.excluded("docs/a.txt")).isFalse();
+    }
+
+    @Test
+    void lastMatchingPatternWins() {
+        assertThat(dockerIgnore.excluded("keep.log")).isFalse();
+        assertThat(DockerIgnore.parse(List.of("!keep.log", "*.log")).excluded("keep.log")).isTrue();
+    }
+
+    @Test
+    void dockerfileAndDockerignoreAreAlwaysInputs() {
+        assertThat(dockerIgnore.excluded("Dockerfile")).isFalse();
+        assertThat(DockerIgnore.parse(List.of(".dockerignore")).excluded(".dockerignore")).isFalse();
+    }
+
+    @Test
+    void skipsExcludedDirectoryOnlyWithoutExceptions() {
+        assertThat(DockerIgnore.parse(List.of("build")).skipDirectory("build")).isTrue();
+        assertThat(DockerIgnore.parse(List.of("build")).skipDirectory("src")).isFalse();
+        // !build/keep 처럼 안쪽 파일이 다시 포함될 수 있다
+        assertThat(dockerIgnore.skipDirectory("build")).isFalse();
+    }
+
+    @Test
+    void emptyFileExcludesNothing() {
+        assertThat(DockerIgnore.parse(List.of()).excluded("build/libs/app.jar")).isFalse();
+    }
+}
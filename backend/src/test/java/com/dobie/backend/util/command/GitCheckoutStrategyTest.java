@@ -0,0 +1,112 @@
+package com.dobie.backend.util.command;
+
+import org.apache.commons.exec.CommandLine;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GitCheckoutStrategyTest {
+
+    private static GitCheckoutStrategy strategy(String mode) {
+        return new GitCheckoutStrategy(mode, 1, false, false, "/data/git-mirrors");
+    }
+
+    private static List<String> args(CommandLine commandLine) {
+        return List.of(commandLine.toStrings());
+    }
+
+    @Test
+    void fullAndPartialPullUseGitPull() {
+        for (String mode : List.of("full", "partial")) {
+            List<CommandLine> commands = strategy(mode).pullCommands("/dobie", "main");
+
+            assertThat(commands).hasSize(1);
+            assertThat(args(commands.get(0))).containsExactly("git", "-C", "/dobie", "pull");
+        }
+    }
+
+    @Test
+    void shallowPullFetchesBranchThenResets() {
+        List<CommandLine> commands = new GitCheckoutStrategy("shallow", 3, false, false, "/data/git-mirrors")
+                .pullCommands("/dobie", "feature/login");
+
+        assertThat(commands).hasSize(2);
+        assertThat(args(commands.get(0))).containsExactly("git", "-C", "/dobie", "fetch", "--depth=3", "origin",
+                "+refs/heads/feature/login:refs/remotes/origin/feature/login");
+        assertThat(args(commands.get(1))).containsExactly("git", "-C", "/dobie", "reset", "--hard",
+                "origin/feature/login");
+    }
+
+    @Test
+    void shallowPullWithoutBranchFollowsRemoteHead() {
+        List<CommandLine> commands = strategy("shallow").pullCommands("/dobie", null);
+
+        assertThat(args(commands.get(0))).containsExactly("git", "-C", "/dobie", "fetch", "--depth=1", "origin", "HEAD");
+        assertThat(args(commands.get(1))).containsExactly("git", "-C", "/dobie", "reset", "--hard", "FETCH_HEAD");
+    }
+
+    @Test
+    void cloneCommandAddsModeOptionsAndDissociatesFromMirror() {
+        CommandLine clone = new GitCheckoutStrategy("partial", 1, true, true, "/data/git-mirrors")
+                .cloneCommand("https://token@github.com/dobie/dobie.git", "/dobie", "main", Path.of("/data/git-mirrors/a.git"));
+
+        assertThat(args(clone)).containsExactly("git", "clone", "--filter=blob:none", "--branch", "main", "--sparse",
+                "--reference-if-able", "/data/git-mirrors/a.git", "--dissociate",
+                "https://token@github.com/dobie/dobie.git", "/dobie");
+    }
+
+    @Test
+    void cloneCommandWithoutMirrorOrBranch() {
+        CommandLine clone = strategy("shallow").cloneCommand("https://github.com/dobie/dobie.git", "/dobie", null, null);
+
+        assertThat(args(clone)).containsExactly("git", "clone", "--depth=1", "https://github.com/dobie/dobie.git", "/dobie");
+    }
+
+    @Test
+    void sparseCheckoutUsesServiceDirectoriesOrGivesUpForRoot() {
+        GitCheckoutStrategy strategy = strategy("full");
+
+        assertThat(args(strategy.sparseCheckoutCommand("/dobie", List.of("/backend/", "./frontend"))))
+                .containsExactly("git", "-C", "/dobie", "sparse-checkout", "set", "backend", "frontend");
+        assertThat(strategy.sparseCheckoutCommand("/dobie", List.of("/backend", "/"))).isNull();
+    }
+
+    @Test
+    void worktreePathIsAbsoluteUnderTheClone() {
+        Path relative = GitCheckoutStrategy.worktreePath("dobie", "feature/login");
+        Path absolute = GitCheckoutStrategy.worktreePath("/dobie/../dobie", "release-1.0");
+
+        assertThat(relative).isAbsolute();
+        assertThat(relative).isEqualTo(Path.of("dobie").toAbsolutePath().resolve(".worktrees").resolve("feature_login"));
+        assertThat(absolute).isEqualTo(Path.of("/dobie/.worktrees/release-1.0"));
+    }
+
+    @Test
+    void worktreeCommandsDetachAtTheRemoteBranch() {
+        GitCheckoutStrategy strategy = strategy("shallow");
+        String worktree = GitCheckoutStrategy.worktreePath("/dobie", "dev").toString();
+
+        assertThat(args(strategy.fetchBranchCommand("/dobie", "dev")))
+                .containsExactly("git", "-C", "/dobie", "fetch", "--depth=1", "origin", "+refs/heads/dev:refs/remotes/origin/dev");
+        assertThat(args(strategy.addWorktreeCommand("/dobie", worktree, "dev")))
+                .containsExactly("git", "-C", "/dobie", "worktree", "add", "--detach", "/dobie/.worktrees/dev", "origin/dev");
+        assertThat(args(strategy.resetWorktreeCommand(worktree, "dev")))
+                .containsExactly("git", "-C", "/dobie/.worktrees/dev", "reset", "--hard", "origin/dev");
+        assertThat(args(strategy.removeWorktreeCommand("/dobie", worktree)))
+                .containsExactly("git", "-C", "/dobie", "worktree", "remove", "--force", "/dobie/.worktrees/dev");
+    }
+
+    @Test
+    void mirrorPathIsStablePerRepository() {
+        GitCheckoutStrategy strategy = strategy("full");
+
+        Path mirror = strategy.mirrorPath("https://github.com/dobie/dobie.git");
+        assertThat(mirror).isEqualTo(strategy.mirrorPath(" https://github.com/dobie/dobie.git "));
+        assertThat(mirror).isNotEqualTo(strategy.mirrorPath("https://github.com/dobie/other.git"));
+        assertThat(mirror.getParent()).isEqualTo(Path.of("/data/git-mirrors"));
+        assertThat(mirror.getFileName().toString()).matches("[0-9a-f]{32}\\.git");
+    }
+}
@@ -0,0 +1,204 @@
+package com.dobie.backend.util.docker;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.EventsCmd;
+import com.github.dockerjava.api.command.ListContainersCmd;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.api.model.EventActor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ContainerStateCacheTest {
+
+    private final DockerClient dockerClient = mock(DockerClient.class);
+    private final DockerClient eventsClient = mock(DockerClient.class);
+    private final ListContainersCmd listCmd = mock(ListContainersCmd.class, RETURNS_SELF);
+    private final EventsCmd eventsCmd = mock(EventsCmd.class, RETURNS_SELF);
+    // 알림 기록 "이름=상태/health" (삭제면 "이름=null")
+    private final List<String> notified = new CopyOnWriteArrayList<>();
+
+    private ContainerStateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(dockerClient.listContainersCmd()).thenReturn(listCmd);
+        when(eventsClient.eventsCmd()).thenReturn(eventsCmd);
+        when(eventsCmd.exec(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        // 목록의 Container mock은 when(...) 밖에서 만든다 (stubbing 중첩 방지)
+        List<Container> containers = List.of(
+                container("c1", "/api", "running", "Up 3 minutes (healthy)"),
+                container("c2", "/db", "exited", "Exited (0) 1 minute ago"));
+        when(listCmd.exec()).thenReturn(containers);
+
+        cache = new ContainerStateCache(dockerClient, eventsClient, true, 0);
+        cache.addListener((name, state) ->
+                notified.add(name + "=" + (state == null ? null : state.state() + "/" + state.health())));
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    private static Container container(String id, String name, String state, String status) {
+        Container container = mock(Container.class);
+        when(container.getId()).thenReturn(id);
+        when(container.getNames()).thenReturn(new String[]{name});
+        when(container.getState()).thenReturn(state);
+        when(container.getStatus()).thenReturn(status);
+        return container;
+    }
+
+    private static Event event(String action, String id, String name) {
+        EventActor actor = new EventActor().withId(id);
+        if (name != null) {
+            actor.withAttributes(Map.of("name", name));
+        }
+        return new Event().withAction(action).withId(id).withActor(actor);
+    }
+
+    // times번째 구독까지 기다린 뒤 마지막으로 등록된 events callback
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ResultCallback.Adapter<Event> connect(int times) {
+        ArgumentCaptor<ResultCallback.Adapter<Event>> callback = ArgumentCaptor.forClass((Class) ResultCallback.Adapter.class);
+        verify(eventsCmd, timeout(2000).times(times)).exec(callback.capture());
+        waitUntil(cache::isLive);
+        return callback.getValue();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("조건을 만족하지 못했습니다");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    @Test
+    void seedsFromContainerList() {
+        cache.start();
+        connect(1);
+
+        assertThat(cache.getContainers()).containsOnly(
+                Map.entry("api", new ContainerState("running", "healthy")),
+                Map.entry("db", new ContainerState("exited", null)));
+        assertThat(cache.getStates()).containsOnly(Map.entry("api", "running"), Map.entry("db", "exited"));
+        assertThat(notified).containsExactlyInAnyOrder("api=running/healthy", "db=exited/null");
+    }
+
+    @Test
+    void appliesLifecycleAndHealthEvents() {
+        cache.start();
+        ResultCallback.Adapter<Event> events = connect(1);
+        notified.clear();
+
+        events.onNext(event("kill", "c1", "api"));
+        events.onNext(event("die", "c1", "api"));
+        events.onNext(event("start", "c2", "db"));
+        events.onNext(event("health_status: starting", "c2", "db"));
+        events.onNext(event("pause", "c2", "db"));
+        events.onNext(event("create", "c3", "/web"));
+
+        assertThat(cache.getContainers()).containsOnly(
+                Map.entry("api", new ContainerState("exited", null)),
+                Map.entry("db", new ContainerState("paused", "starting")),
+                Map.entry("web", new ContainerState("created", null)));
+        assertThat(notified).containsExactly("api=exited/null", "db=running/null", "db=running/starting",
+                "db=paused/starting", "web=created/null");
+    }
+
+    @Test
+    void destroyWithoutNameUsesKnownId() {
+        cache.start();
+        ResultCallback.Adapter<Event> events = connect(1);
+        notified.clear();
+
+        events.onNext(event("destroy", "c2", null));
+        // 모르는 컨테이너의 이름 없는 이벤트는 무시
+        events.onNext(event("die", "unknown", null));
+
+        assertThat(cache.getContainers()).containsOnlyKeys("api");
+        assertThat(notified).containsExactly("db=null");
+    }
+
+    @Test
+    void renameMovesState() {
+        cache.start();
+        ResultCallback.Adapter<Event> events = connect(1);
+        notified.clear();
+
+        Event rename = new Event().withAction("rename").withId("c1")
+                .withActor(new EventActor().withId("c1").withAttributes(Map.of("name", "api-2", "oldName", "/api")));
+        events.onNext(rename);
+
+        assertThat(cache.getContainers()).containsOnlyKeys("api-2", "db");
+        assertThat(cache.getContainers().get("api-2")).isEqualTo(new ContainerState("running", "healthy"));
+        assertThat(notified).containsExactly("api=null", "api-2=running/healthy");
+    }
+
+    @Test
+    void reseedsAfterStreamError() {
+        cache.start();
+        ResultCallback.Adapter<Event> events = connect(1);
+        List<Container> remaining = List.of(container("c1", "/api", "running", "Up 1 second"));
+        when(listCmd.exec()).thenReturn(remaining);
+        notified.clear();
+
+        events.onError(new IllegalStateException("connection reset"));
+        ResultCallback.Adapter<Event> resubscribed = connect(2);
+
+        assertThat(resubscribed).isNotSameAs(events);
+        // 끊겨 있던 동안 삭제된 db는 제거, api는 다시 읽은 상태로 교체
+        assertThat(cache.getContainers()).containsOnly(Map.entry("api", new ContainerState("running", null)));
+        assertThat(notified).contains("db=null", "api=running/null");
+
+        // 이전 스트림에서 늦게 도착한 종료는 다시 연결하지 않는다
+        events.onComplete();
+        verify(eventsClient, times(2)).eventsCmd();
+    }
+
+    @Test
+    void idleStreamStaysLiveOnEventsClient() throws InterruptedException {
+        cache.start();
+        connect(1);
+
+        // reconnect-seconds(0)보다 오래 이벤트가 없어도 다시 연결하거나 목록을 다시 읽지 않는다
+        Thread.sleep(300);
+
+        assertThat(cache.isLive()).isTrue();
+        verify(eventsClient, times(1)).eventsCmd();
+        verify(dockerClient, never()).eventsCmd();
+        verify(dockerClient, times(1)).listContainersCmd();
+    }
+
+    @Test
+    void staysIdleWhenDisabled() {
+        ContainerStateCache disabled = new ContainerStateCache(dockerClient, eventsClient, false, 0);
+        disabled.start();
+
+        assertThat(disabled.isLive()).isFalse();
+        verify(dockerClient, never()).listContainersCmd();
+        disabled.shutdown();
+    }
+}
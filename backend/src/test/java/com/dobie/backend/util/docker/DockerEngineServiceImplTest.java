@@ -0,0 +1,187 @@
+package com.dobie.backend.util.docker;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.LogContainerCmd;
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.StreamType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DockerEngineServiceImplTest {
+
+    // 같은 초에 찍힌 줄이 있어야 cursor 이하 줄 건너뛰기를 확인할 수 있다
+    private static final List<String> LOG = List.of(
+            "2024-01-01T00:00:00.100000000Z line-1",
+            "2024-01-01T00:00:00.200000000Z line-2",
+            "2024-01-01T00:00:01.100000000Z line-3",
+            "2024-01-01T00:00:01.200000000Z line-4",
+            "2024-01-01T00:00:02.000000000Z line-5");
+
+    private static final long START = Instant.parse("2024-01-01T00:00:00Z").getEpochSecond();
+
+    private final DockerClient dockerClient = mock(DockerClient.class);
+    private final LogContainerCmd logCmd = mock(LogContainerCmd.class, RETURNS_SELF);
+
+    // Engine API가 보내줄 frame (요청의 since/tail 반영 전)
+    private List<Frame> frames;
+    private Integer requestedSince;
+    private Integer requestedTail;
+
+    @BeforeEach
+    void setUp() {
+        frames = lineFrames(LOG);
+        when(dockerClient.logContainerCmd("api")).thenReturn(logCmd);
+        when(logCmd.withSince(anyInt())).thenAnswer(invocation -> {
+            requestedSince = invocation.getArgument(0);
+            return logCmd;
+        });
+        when(logCmd.withTail(anyInt())).thenAnswer(invocation -> {
+            requestedTail = invocation.getArgument(0);
+            return logCmd;
+        });
+        when(logCmd.exec(any())).thenAnswer(invocation -> {
+            ResultCallback.Adapter<Frame> callback = invocation.getArgument(0);
+            for (Frame frame : engineFrames()) {
+                callback.onNext(frame);
+            }
+            callback.onComplete();
+            return callback;
+        });
+    }
+
+    private DockerEngineServiceImpl service(int defaultTail, int maxLines) {
+        return new DockerEngineServiceImpl(dockerClient, mock(ContainerStateCache.class), defaultTail, maxLines);
+    }
+
+    private static List<Frame> lineFrames(List<String> lines) {
+        List<Frame> result = new ArrayList<>();
+        lines.forEach(line -> result.add(frame(StreamType.STDOUT, line + "\n")));
+        return result;
+    }
+
+    private static Frame frame(StreamType streamType, String payload) {
+        return new Frame(streamType, payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // since는 초 단위로 거르고, tail은 마지막 N개 frame만 보낸다 (테스트 frame은 줄 단위일 때만 tail 사용)
+    private List<Frame> engineFrames() {
+        List<Frame> result = new ArrayList<>();
+        for (Frame frame : frames) {
+            String payload = new String(frame.getPayload(), StandardCharsets.UTF_8);
+            int space = payload.indexOf(' ');
+            // 앞 frame에 이어지는 조각(timestamp 없음)은 그대로 보낸다
+            if (requestedSince != null && space > 0 && Character.isDigit(payload.charAt(0))
+                    && Instant.parse(payload.substring(0, space)).getEpochSecond() < requestedSince) {
+                continue;
+            }
+            result.add(frame);
+        }
+        if (requestedTail != null && result.size() > requestedTail) {
+            return result.subList(result.size() - requestedTail, result.size());
+        }
+        return result;
+    }
+
+    @Test
+    void tailReturnsLastLinesWithoutMore() {
+        ContainerLogPage page = service(500, 5000).readContainerLog("api", ContainerLogQuery.tail(2));
+
+        verify(logCmd).withTail(2);
+        assertThat(page.lines()).containsExactly("line-4", "line-5");
+        assertThat(page.nextCursor()).isEqualTo("2024-01-01T00:00:02.000000000Z");
+        assertThat(page.hasMore()).isFalse();
+    }
+
+    @Test
+    void defaultTailIsAppliedWithoutQuery() {
+        ContainerLogPage page = service(3, 5000)
+                .readContainerLog("api", new ContainerLogQuery(null, null, null, null, null));
+
+        verify(logCmd).withTail(3);
+        assertThat(page.lines()).containsExactly("line-3", "line-4", "line-5");
+    }
+
+    @Test
+    void pagesThroughCursorWithoutRepeatingLinesInTheSameSecond() {
+        DockerEngineServiceImpl service = service(500, 5000);
+
+        ContainerLogPage first = service.readContainerLog("api", new ContainerLogQuery(null, START, null, null, 2));
+        assertThat(first.lines()).containsExactly("line-1", "line-2");
+        assertThat(first.hasMore()).isTrue();
+
+        ContainerLogPage second = service.readContainerLog("api",
+                new ContainerLogQuery(null, null, null, first.nextCursor(), 2));
+        assertThat(requestedSince).isEqualTo((int) START);
+        assertThat(second.lines()).containsExactly("line-3", "line-4");
+        assertThat(second.hasMore()).isTrue();
+
+        ContainerLogPage third = service.readContainerLog("api",
+                new ContainerLogQuery(null, null, null, second.nextCursor(), 2));
+        assertThat(requestedSince).isEqualTo((int) START + 1);
+        assertThat(third.lines()).containsExactly("line-5");
+        assertThat(third.hasMore()).isFalse();
+
+        // 새 줄이 없으면 같은 cursor를 돌려준다
+        ContainerLogPage empty = service.readContainerLog("api",
+                new ContainerLogQuery(null, null, null, third.nextCursor(), 2));
+        assertThat(empty.lines()).isEmpty();
+        assertThat(empty.nextCursor()).isEqualTo(third.nextCursor());
+        assertThat(empty.hasMore()).isFalse();
+    }
+
+    @Test
+    void cursorIgnoresTail() {
+        ContainerLogPage page = service(500, 5000).readContainerLog("api",
+                new ContainerLogQuery(1, null, null, "2024-01-01T00:00:01.100000000Z", null));
+
+        assertThat(requestedTail).isNull();
+        assertThat(page.lines()).containsExactly("line-4", "line-5");
+    }
+
+    @Test
+    void limitIsCappedAtMaxLines() {
+        ContainerLogPage page = service(500, 3).readContainerLog("api",
+                new ContainerLogQuery(null, START, null, null, 100));
+
+        assertThat(page.lines()).containsExactly("line-1", "line-2", "line-3");
+        assertThat(page.hasMore()).isTrue();
+    }
+
+    @Test
+    void joinsSplitLinesPerStreamAndTrimsCarriageReturn() {
+        frames = List.of(
+                frame(StreamType.STDOUT, "2024-01-01T00:00:00.100000000Z hel"),
+                frame(StreamType.STDERR, "2024-01-01T00:00:00.200000000Z error\n"),
+                frame(StreamType.STDOUT, "lo world\n"),
+                frame(StreamType.RAW, "2024-01-01T00:00:00.300000000Z tty line\r\n"),
+                // 개행 없이 끝난 마지막 줄
+                frame(StreamType.STDOUT, "2024-01-01T00:00:00.400000000Z last"));
+
+        ContainerLogPage page = service(500, 5000).readContainerLog("api",
+                new ContainerLogQuery(null, START, null, null, null));
+
+        assertThat(page.lines()).containsExactly("error", "hello world", "tty line", "last");
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> service(500, 5000).readContainerLog("api",
+                new ContainerLogQuery(null, null, null, "yesterday", null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}